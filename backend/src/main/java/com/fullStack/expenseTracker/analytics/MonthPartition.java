@@ -0,0 +1,162 @@
+package com.fullStack.expenseTracker.analytics;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One calendar month of transactions held as parallel primitive arrays. Rows are unordered; removal
+ * swaps the last row into the freed slot so the arrays stay dense for scans. Per-category amount digests
+ * are built on first use, extended on insert and rebuilt for a category after one of its rows is removed.
+ */
+final class MonthPartition {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    static final double DIGEST_COMPRESSION = 100;
+
+    final int monthIndex;
+
+    final int firstEpochDay;
+
+    final int endEpochDay;
+
+    int size;
+
+    long[] transactionIds = new long[INITIAL_CAPACITY];
+
+    long[] userIds = new long[INITIAL_CAPACITY];
+
+    int[] epochDays = new int[INITIAL_CAPACITY];
+
+    long[] amountCents = new long[INITIAL_CAPACITY];
+
+    int[] categoryIds = new int[INITIAL_CAPACITY];
+
+    byte[] transactionTypeIds = new byte[INITIAL_CAPACITY];
+
+    private Map<Integer, TDigest> amountDigests;
+
+    private final Set<Integer> staleDigestCategories = new HashSet<>();
+
+    MonthPartition(int monthIndex) {
+        this.monthIndex = monthIndex;
+        LocalDate first = LocalDate.of(monthIndex / 12, monthIndex % 12 + 1, 1);
+        this.firstEpochDay = (int) first.toEpochDay();
+        this.endEpochDay = (int) first.plusMonths(1).toEpochDay();
+    }
+
+    static int monthIndexOf(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    void add(long transactionId, long userId, int epochDay, long cents, int categoryId, int transactionTypeId) {
+        if (size == transactionIds.length) {
+            grow();
+        }
+        transactionIds[size] = transactionId;
+        userIds[size] = userId;
+        epochDays[size] = epochDay;
+        amountCents[size] = cents;
+        categoryIds[size] = categoryId;
+        transactionTypeIds[size] = (byte) transactionTypeId;
+        size++;
+        if (amountDigests != null && !staleDigestCategories.contains(categoryId)) {
+            amountDigests.computeIfAbsent(categoryId, k -> new TDigest(DIGEST_COMPRESSION)).add(cents);
+        }
+    }
+
+    int removeAll(Set<Long> ids) {
+        int removed = 0;
+        int i = 0;
+        while (i < size && removed < ids.size()) {
+            if (ids.contains(transactionIds[i])) {
+                if (amountDigests != null) {
+                    staleDigestCategories.add(categoryIds[i]);
+                }
+                int last = --size;
+                transactionIds[i] = transactionIds[last];
+                userIds[i] = userIds[last];
+                epochDays[i] = epochDays[last];
+                amountCents[i] = amountCents[last];
+                categoryIds[i] = categoryIds[last];
+                transactionTypeIds[i] = transactionTypeIds[last];
+                removed++;
+            } else {
+                i++;
+            }
+        }
+        return removed;
+    }
+
+    int setTransactionType(int categoryId, int transactionTypeId) {
+        int changed = 0;
+        for (int i = 0; i < size; i++) {
+            if (categoryIds[i] == categoryId && transactionTypeIds[i] != transactionTypeId) {
+                transactionTypeIds[i] = (byte) transactionTypeId;
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Adds this partition's rows within [fromEpochDay, toEpochDay) into the per-category accumulators,
+     * skipping the date test when the whole month is inside the range.
+     */
+    void accumulateByCategory(int fromEpochDay, int toEpochDay, int transactionTypeId, long[] totals, long[] counts) {
+        boolean wholeMonth = fromEpochDay <= firstEpochDay && endEpochDay <= toEpochDay;
+        for (int i = 0; i < size; i++) {
+            if (!wholeMonth) {
+                int day = epochDays[i];
+                if (day < fromEpochDay || day >= toEpochDay) {
+                    continue;
+                }
+            }
+            if (transactionTypeId != 0 && transactionTypeIds[i] != transactionTypeId) {
+                continue;
+            }
+            int categoryId = categoryIds[i];
+            totals[categoryId] += amountCents[i];
+            counts[categoryId]++;
+        }
+    }
+
+    /**
+     * Amount digests (in cents) per category for this month. Callers hold the store's read lock, so rows
+     * can't change underneath; the lazy build and buffer flush are serialized on the partition.
+     */
+    synchronized Map<Integer, TDigest> amountDigests() {
+        if (amountDigests == null) {
+            amountDigests = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                amountDigests.computeIfAbsent(categoryIds[i], k -> new TDigest(DIGEST_COMPRESSION)).add(amountCents[i]);
+            }
+            staleDigestCategories.clear();
+        } else if (!staleDigestCategories.isEmpty()) {
+            staleDigestCategories.forEach(amountDigests::remove);
+            for (int i = 0; i < size; i++) {
+                if (staleDigestCategories.contains(categoryIds[i])) {
+                    amountDigests.computeIfAbsent(categoryIds[i], k -> new TDigest(DIGEST_COMPRESSION)).add(amountCents[i]);
+                }
+            }
+            staleDigestCategories.clear();
+        }
+        // flush insert buffers here so concurrent readers only ever read the digests
+        amountDigests.values().forEach(TDigest::compress);
+        return amountDigests;
+    }
+
+    private void grow() {
+        int capacity = transactionIds.length + (transactionIds.length >> 1);
+        transactionIds = Arrays.copyOf(transactionIds, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        transactionTypeIds = Arrays.copyOf(transactionTypeIds, capacity);
+    }
+}
@@ -0,0 +1,172 @@
+package com.fullStack.expenseTracker.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest: a constant-size quantile summary whose centroids are small near the tails and
+ * larger around the median, so extreme percentiles stay accurate. Values are buffered and folded in
+ * bulk; digests over disjoint data merge into a digest of the union.
+ */
+public class TDigest {
+
+    private final double compression;
+
+    private double[] means = new double[0];
+
+    private double[] weights = new double[0];
+
+    private double[] bufferedMeans;
+
+    private double[] bufferedWeights;
+
+    private int buffered;
+
+    private double totalWeight;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Digest compression must be at least 10");
+        }
+        this.compression = compression;
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.means.length; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        if (other.totalWeight > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    /**
+     * Estimated value at quantile q in [0, 1], interpolating between neighbouring centroid midpoints and
+     * the exact minimum and maximum; NaN when the digest is empty.
+     */
+    public double quantile(double q) {
+        compress();
+        if (totalWeight == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        double target = q * totalWeight;
+        double previousMid = 0;
+        double previousMean = min;
+        double cumulative = 0;
+        for (int i = 0; i < means.length; i++) {
+            double mid = cumulative + weights[i] / 2;
+            if (target < mid) {
+                return interpolate(target, previousMid, previousMean, mid, means[i]);
+            }
+            previousMid = mid;
+            previousMean = means[i];
+            cumulative += weights[i];
+        }
+        return interpolate(target, previousMid, previousMean, totalWeight, max);
+    }
+
+    int centroidCount() {
+        compress();
+        return means.length;
+    }
+
+    private void add(double mean, double weight) {
+        if (bufferedMeans == null) {
+            // allocated on first write so empty and read-only digests stay small
+            bufferedMeans = new double[(int) (2 * compression)];
+            bufferedWeights = new double[bufferedMeans.length];
+        } else if (buffered == bufferedMeans.length) {
+            compress();
+        }
+        bufferedMeans[buffered] = mean;
+        bufferedWeights[buffered] = weight;
+        buffered++;
+        totalWeight += weight;
+        min = Math.min(min, mean);
+        max = Math.max(max, mean);
+    }
+
+    void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        int n = means.length + buffered;
+        double[][] all = new double[n][];
+        for (int i = 0; i < means.length; i++) {
+            all[i] = new double[]{means[i], weights[i]};
+        }
+        for (int i = 0; i < buffered; i++) {
+            all[means.length + i] = new double[]{bufferedMeans[i], bufferedWeights[i]};
+        }
+        buffered = 0;
+        Arrays.sort(all, (left, right) -> Double.compare(left[0], right[0]));
+
+        double[] mergedMeans = new double[n];
+        double[] mergedWeights = new double[n];
+        int merged = 0;
+        double mean = all[0][0];
+        double weight = all[0][1];
+        double weightSoFar = 0;
+        double limit = totalWeight * limitAfter(0);
+        for (int i = 1; i < n; i++) {
+            if (weightSoFar + weight + all[i][1] <= limit) {
+                weight += all[i][1];
+                mean += (all[i][0] - mean) * all[i][1] / weight;
+            } else {
+                mergedMeans[merged] = mean;
+                mergedWeights[merged] = weight;
+                merged++;
+                weightSoFar += weight;
+                limit = totalWeight * limitAfter(weightSoFar / totalWeight);
+                mean = all[i][0];
+                weight = all[i][1];
+            }
+        }
+        mergedMeans[merged] = mean;
+        mergedWeights[merged] = weight;
+        merged++;
+
+        means = Arrays.copyOf(mergedMeans, merged);
+        weights = Arrays.copyOf(mergedWeights, merged);
+    }
+
+    /**
+     * Upper quantile bound of a centroid starting at q, from the k1 scale function
+     * k(q) = compression / (2 pi) * asin(2q - 1).
+     */
+    private double limitAfter(double q) {
+        double k = compression / (2 * Math.PI) * Math.asin(Math.min(1, 2 * q - 1)) + 1;
+        double maxK = compression / 4;
+        if (k >= maxK) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    private static double interpolate(double x, double x0, double y0, double x1, double y1) {
+        if (x1 <= x0) {
+            return y1;
+        }
+        return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+    }
+}
@@ -0,0 +1,267 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Platform-wide copy of the transaction table kept as primitive columns (epoch day, amount in cents,
+ * category, type, user) partitioned by calendar month, for admin aggregations across all users.
+ * Loaded once at startup and kept current from committed change events; scans run over the
+ * partitions of the requested range in parallel.
+ */
+@Component
+@Slf4j
+public class TransactionColumnStore {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TreeMap<Integer, MonthPartition> partitions = new TreeMap<>();
+
+    private int maxCategoryId;
+
+    private List<TransactionsChangedEvent> changesDuringRebuild;
+
+    private List<CategoryChangedEvent> categoryChangesDuringRebuild;
+
+    private volatile boolean ready;
+
+    public record CategoryTotal(int categoryId, long totalCents, long transactionCount) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+            categoryChangesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TreeMap<Integer, MonthPartition> loaded = new TreeMap<>();
+        int loadedMaxCategoryId = 0;
+        long rows = 0;
+        long lastId = 0;
+        List<Object[]> batch;
+        do {
+            batch = transactionRepository.findAnalyticsRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                lastId = ((Number) row[0]).longValue();
+                int categoryId = ((Number) row[2]).intValue();
+                LocalDate date = toLocalDate(row[5]);
+                loaded.computeIfAbsent(MonthPartition.monthIndexOf(date), MonthPartition::new).add(
+                        lastId,
+                        ((Number) row[1]).longValue(),
+                        (int) date.toEpochDay(),
+                        toCents(((Number) row[4]).doubleValue()),
+                        categoryId,
+                        ((Number) row[3]).intValue());
+                loadedMaxCategoryId = Math.max(loadedMaxCategoryId, categoryId);
+                rows++;
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            partitions = loaded;
+            maxCategoryId = loadedMaxCategoryId;
+            // the load may or may not have seen these writes, so replay them in a way that is safe either way
+            for (TransactionsChangedEvent event : changesDuringRebuild) {
+                apply(event, true);
+            }
+            changesDuringRebuild = null;
+            for (CategoryChangedEvent event : categoryChangesDuringRebuild) {
+                apply(event);
+            }
+            categoryChangesDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Transaction column store loaded {} rows in {} partitions in {} ms",
+                rows, loaded.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event, false);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!event.transactionTypeChanged()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (categoryChangesDuringRebuild != null) {
+                categoryChangesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Totals per category of the transactions dated within [from, toExclusive), optionally restricted to
+     * one transaction type.
+     */
+    public List<CategoryTotal> categoryTotals(LocalDate from, LocalDate toExclusive, Integer transactionTypeId) {
+        int fromEpochDay = (int) from.toEpochDay();
+        int toEpochDay = (int) toExclusive.toEpochDay();
+        int typeFilter = transactionTypeId == null ? 0 : transactionTypeId;
+
+        lock.readLock().lock();
+        try {
+            if (!toExclusive.isAfter(from)) {
+                return List.of();
+            }
+            int slots = maxCategoryId + 1;
+            Collection<MonthPartition> scanned = partitions.subMap(
+                    MonthPartition.monthIndexOf(from), true,
+                    MonthPartition.monthIndexOf(toExclusive.minusDays(1)), true).values();
+
+            long[][] merged = scanned.parallelStream()
+                    .map(partition -> {
+                        long[][] partial = new long[2][slots];
+                        partition.accumulateByCategory(fromEpochDay, toEpochDay, typeFilter, partial[0], partial[1]);
+                        return partial;
+                    })
+                    .reduce(new long[2][slots], (left, right) -> {
+                        long[][] sum = new long[2][slots];
+                        for (int i = 0; i < slots; i++) {
+                            sum[0][i] = left[0][i] + right[0][i];
+                            sum[1][i] = left[1][i] + right[1][i];
+                        }
+                        return sum;
+                    });
+
+            List<CategoryTotal> totals = new ArrayList<>();
+            for (int categoryId = 0; categoryId < slots; categoryId++) {
+                if (merged[1][categoryId] > 0) {
+                    totals.add(new CategoryTotal(categoryId, merged[0][categoryId], merged[1][categoryId]));
+                }
+            }
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Amount digests (in cents) per category over the calendar months [fromMonthIndex, toMonthIndex],
+     * merged from each month's digests, optionally restricted to one category.
+     */
+    public Map<Integer, TDigest> amountDigests(int fromMonthIndex, int toMonthIndex, Integer categoryId) {
+        lock.readLock().lock();
+        try {
+            Map<Integer, TDigest> merged = new TreeMap<>();
+            if (fromMonthIndex > toMonthIndex) {
+                return merged;
+            }
+            for (MonthPartition partition : partitions.subMap(fromMonthIndex, true, toMonthIndex, true).values()) {
+                partition.amountDigests().forEach((category, digest) -> {
+                    if (categoryId == null || categoryId.equals(category)) {
+                        merged.computeIfAbsent(category, k -> new TDigest(MonthPartition.DIGEST_COMPRESSION))
+                                .merge(digest);
+                    }
+                });
+            }
+            return merged;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int monthIndexOf(LocalDate date) {
+        return MonthPartition.monthIndexOf(date);
+    }
+
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    private void apply(TransactionsChangedEvent event, boolean idempotent) {
+        Map<Integer, Set<Long>> removals = new HashMap<>();
+        for (TransactionChange change : event.changes()) {
+            if (change.before() != null) {
+                removals.computeIfAbsent(MonthPartition.monthIndexOf(change.before().date()), k -> new HashSet<>())
+                        .add(change.before().transactionId());
+            }
+            if (idempotent && change.after() != null) {
+                removals.computeIfAbsent(MonthPartition.monthIndexOf(change.after().date()), k -> new HashSet<>())
+                        .add(change.after().transactionId());
+            }
+        }
+        removals.forEach((monthIndex, ids) -> {
+            MonthPartition partition = partitions.get(monthIndex);
+            if (partition != null) {
+                partition.removeAll(ids);
+            }
+        });
+
+        for (TransactionChange change : event.changes()) {
+            TransactionSnapshot after = change.after();
+            if (after != null) {
+                partitions.computeIfAbsent(MonthPartition.monthIndexOf(after.date()), MonthPartition::new).add(
+                        after.transactionId(),
+                        after.userId(),
+                        (int) after.date().toEpochDay(),
+                        toCents(after.amount()),
+                        after.categoryId(),
+                        after.transactionTypeId());
+                maxCategoryId = Math.max(maxCategoryId, after.categoryId());
+            }
+        }
+    }
+
+    private void apply(CategoryChangedEvent event) {
+        int rows = 0;
+        for (MonthPartition partition : partitions.values()) {
+            rows += partition.setTransactionType(event.categoryId(), event.transactionTypeId());
+        }
+        log.info("Moved {} column store rows of category {} to transaction type {}",
+                rows, event.categoryId(), event.transactionTypeId());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
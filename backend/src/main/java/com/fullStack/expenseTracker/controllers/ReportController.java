@@ -1,15 +1,26 @@
 package com.fullStack.expenseTracker.controllers;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.ReportNotReadyException;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.services.MonthlyRollupService;
 import com.fullStack.expenseTracker.services.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.query.Param;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/mypockit/report")
 public class ReportController {
@@ -17,6 +28,9 @@ public class ReportController {
     @Autowired
     private ReportService reportService;
 
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
     @GetMapping("/getTotalIncomeOrExpense")
     @PreAuthorize(("hasRole('ROLE_USER')"))
     public ResponseEntity<ApiResponseDto<?>> getTotalIncomeOrExpense(@RequestParam("userId") Long userId,
@@ -56,4 +70,107 @@ public class ReportController {
                                                                   @RequestParam("month") int month) {
         return reportService.getCategoryBreakdownByUserAndMonth(email, year, month);
     }
+
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getDashboard(@RequestParam("email") String email,
+                                                          @RequestParam("year") int year,
+                                                          @RequestParam("month") int month)
+            throws UserNotFoundException, UserServiceLogicException, ReportQueryTimeoutException, TransactionServiceLogicException {
+        return reportService.getDashboard(email, year, month);
+    }
+
+    @GetMapping("/timeseries")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getTimeSeries(
+            @RequestParam("email") String email,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "bucket", required = false) String bucket)
+            throws TransactionServiceLogicException {
+        return reportService.getTimeSeries(email, from, to, bucket);
+    }
+
+    @GetMapping("/pivot")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getCategoryMonthPivot(@RequestParam("email") String email,
+                                                                   @RequestParam(value = "from", required = false) String from,
+                                                                   @RequestParam(value = "to", required = false) String to)
+            throws TransactionServiceLogicException {
+        return reportService.getCategoryMonthPivot(email, from, to);
+    }
+
+    @GetMapping("/calendar")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getCalendar(@RequestParam("email") String email,
+                                                         @RequestParam("year") int year,
+                                                         @RequestParam("month") int month)
+            throws TransactionServiceLogicException {
+        return reportService.getCalendar(email, year, month);
+    }
+
+    @GetMapping("/forecast")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getForecast(
+            @RequestParam("email") String email,
+            @RequestParam(value = "until", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until)
+            throws UserNotFoundException, UserServiceLogicException, TransactionServiceLogicException,
+            ReportQueryTimeoutException {
+        return reportService.getForecast(email, until);
+    }
+
+    @GetMapping("/topPayees")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getTopPayees(@RequestParam("email") String email,
+                                                          @RequestParam(value = "limit", defaultValue = "10") int limit)
+            throws UserNotFoundException {
+        return reportService.getTopPayees(email, limit);
+    }
+
+    @GetMapping("/rolling")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getRollingTotals(@RequestParam("email") String email)
+            throws UserNotFoundException {
+        return reportService.getRollingTotals(email);
+    }
+
+    @GetMapping("/anomalies")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getSpendingAnomalies(@RequestParam("email") String email,
+                                                                  @RequestParam(value = "limit", defaultValue = "10") int limit)
+            throws UserNotFoundException {
+        return reportService.getSpendingAnomalies(email, limit);
+    }
+
+    @GetMapping("/categoryPercentiles")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getCategoryPercentiles(
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @RequestParam(value = "categoryId", required = false) Integer categoryId)
+            throws TransactionServiceLogicException, ReportNotReadyException {
+        return reportService.getCategoryPercentiles(from, to, categoryId);
+    }
+
+    @GetMapping("/admin/categoryTotals")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getPlatformCategoryTotals(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "transactionTypeId", required = false) Integer transactionTypeId) {
+        return reportService.getPlatformCategoryTotals(from, to, transactionTypeId);
+    }
+
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> getReportCacheStats() {
+        return reportService.getReportCacheStats();
+    }
+
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponseDto<?>> rebuildRollups(@Param("userId") Long userId)
+            throws TransactionServiceLogicException {
+        return monthlyRollupService.rebuildRollups(userId);
+    }
 }
@@ -5,6 +5,7 @@ import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.idempotency.Idempotent;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,7 @@ public class SavedTransactionController {
     private SavedTransactionService savedTransactionService;
 
     @PostMapping("/create")
+    @Idempotent
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> createSavedTransaction(@RequestBody SavedTransactionRequestDto requestDto)
             throws UserServiceLogicException, UserNotFoundException{
@@ -27,6 +29,7 @@ public class SavedTransactionController {
     }
 
     @GetMapping("/add")
+    @Idempotent
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(@Param("id") long id)
             throws UserServiceLogicException, TransactionNotFoundException {
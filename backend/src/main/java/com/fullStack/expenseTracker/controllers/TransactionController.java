@@ -1,8 +1,12 @@
 package com.fullStack.expenseTracker.controllers;
 
 import com.fullStack.expenseTracker.exceptions.*;
+import com.fullStack.expenseTracker.idempotency.Idempotent;
+import com.fullStack.expenseTracker.services.TransactionExportService;
+import com.fullStack.expenseTracker.services.TransactionImportService;
 import com.fullStack.expenseTracker.services.TransactionService;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +14,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/mypockit/transaction")
@@ -18,22 +24,64 @@ public class TransactionController {
     @Autowired
     TransactionService transactionService;
 
+    @Autowired
+    TransactionImportService transactionImportService;
+
+    @Autowired
+    TransactionExportService transactionExportService;
+
     @GetMapping("/getAll")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponseDto<?>> getAllTransactions(@Param("pageNumber") int pageNumber,
                                                          @Param("pageSize") int pageSize,
-                                                         @Param("searchKey") String searchKey) throws TransactionServiceLogicException {
+                                                         @Param("searchKey") String searchKey,
+                                                         @Param("mode") String mode) throws TransactionServiceLogicException {
+        if ("slice".equalsIgnoreCase(mode)) {
+            return transactionService.getAllTransactionsSlice(pageNumber, pageSize, searchKey);
+        }
         return transactionService.getAllTransactions(pageNumber, pageSize, searchKey);
     }
 
     @PostMapping("/new")
+    @Idempotent
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> addTransaction(@RequestBody @Valid TransactionRequestDto transactionRequestDto)
-            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
+            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException, TransactionQueueFullException {
 
         return transactionService.addTransaction(transactionRequestDto);
     }
 
+    @PostMapping("/batch")
+    @Idempotent
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> processTransactionBatch(@RequestBody TransactionBatchRequestDto transactionBatchRequestDto)
+            throws TransactionServiceLogicException {
+
+        return transactionService.processTransactionBatch(transactionBatchRequestDto);
+    }
+
+    @PostMapping("/import")
+    @Idempotent
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> importTransactions(@RequestParam("email") String email,
+                                                                @RequestParam("file") MultipartFile file,
+                                                                @RequestParam(value = "format", required = false) String format,
+                                                                @RequestParam(value = "expenseCategoryId", required = false) Integer expenseCategoryId,
+                                                                @RequestParam(value = "incomeCategoryId", required = false) Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        return transactionImportService.importTransactions(email, file, format, expenseCategoryId, incomeCategoryId);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@Param("email") String email,
+                                                                    @Param("format") String format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+
+        return transactionExportService.exportTransactions(email, format);
+    }
+
     @GetMapping("/getByUser")
     @PreAuthorize("hasRole('ROLE_USER')")
     public ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(@Param("email") String email,
@@ -42,9 +90,13 @@ public class TransactionController {
                                                                    @Param("searchKey") String searchKey,
                                                                    @Param("sortField") String sortField,
                                                                    @Param("sortDirec") String sortDirec,
-                                                                   @Param("transactionType") String transactionType)
+                                                                   @Param("transactionType") String transactionType,
+                                                                   @Param("cursor") String cursor)
             throws UserNotFoundException, TransactionServiceLogicException {
 
+        if (cursor != null) {
+            return transactionService.getTransactionsByUserAfter(email, cursor, pageSize, searchKey, transactionType);
+        }
         return transactionService.getTransactionsByUser(email, pageNumber, pageSize, searchKey, sortField, sortDirec, transactionType);
     }
 
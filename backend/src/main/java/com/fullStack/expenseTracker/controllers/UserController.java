@@ -31,9 +31,14 @@ public class UserController {
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponseDto<?>> getAllUsers(@Param("pageNumber") int pageNumber,
                                                          @Param("pageSize") int pageSize,
-                                                         @Param("searchKey") String searchKey)
+                                                         @Param("searchKey") String searchKey,
+                                                         @Param("sortBy") String sortBy,
+                                                         @Param("afterId") Long afterId)
             throws RoleNotFoundException, UserServiceLogicException {
-        return userService.getAllUsers(pageNumber, pageSize, searchKey);
+        if (afterId != null) {
+            return userService.getUsersAfter(afterId, pageSize, searchKey);
+        }
+        return userService.getAllUsers(pageNumber, pageSize, searchKey, sortBy);
     }
 
     @DeleteMapping("/disable")
@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.dto.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only row shape for transaction listings, filled by JPQL constructor expressions
+ * so rows are never hydrated as managed entities.
+ */
+public record TransactionView(Long transactionId,
+                              Integer categoryId,
+                              String categoryName,
+                              Integer transactionType,
+                              String description,
+                              Double amount,
+                              LocalDate date,
+                              String userEmail) {
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.projections;
+
+/**
+ * Admin user listing row with the user's current-month totals, filled from a native query by column alias.
+ */
+public interface UserActivityView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    Boolean getEnabled();
+
+    Number getExpense();
+
+    Number getIncome();
+
+    Number getNoOfTransactions();
+}
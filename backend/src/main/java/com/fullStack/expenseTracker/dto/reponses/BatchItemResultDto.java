@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchItemResultDto {
+
+    private String operation;
+
+    private int index;
+
+    private Long transactionId;
+
+    private ApiResponseStatus status;
+
+    private String message;
+
+}
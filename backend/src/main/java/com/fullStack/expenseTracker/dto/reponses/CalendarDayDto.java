@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class CalendarDayDto {
+
+    private LocalDate date;
+
+    private double income;
+
+    private double expense;
+
+    private long incomeCount;
+
+    private long expenseCount;
+}
@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CalendarResponseDto {
+
+    private int year;
+
+    private int month;
+
+    private List<CalendarDayDto> days;
+}
@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryBreakdownDto {
+
+    private String categoryName;
+
+    private String transactionType;
+
+    private double totalAmount;
+
+    private long transactionCount;
+}
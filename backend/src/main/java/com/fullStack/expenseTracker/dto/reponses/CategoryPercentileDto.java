@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryPercentileDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private String transactionType;
+
+    private long noOfTransactions;
+
+    private double p50;
+
+    private double p90;
+
+    private double p99;
+}
@@ -0,0 +1,29 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class DashboardResponseDto {
+
+    private int year;
+
+    private int month;
+
+    private double totalExpense;
+
+    private double totalIncome;
+
+    private long totalNoOfTransactions;
+
+    private double budget;
+
+    private List<TransactionsMonthlySummaryDto> monthlySummary;
+
+    private List<CategoryBreakdownDto> categoryBreakdown;
+
+    private List<SavedTransactionResponseDto> savedTransactions;
+}
@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ForecastCategoryDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private String transactionType;
+
+    private double actualToDate;
+
+    private double scheduledAmount;
+
+    private double runRateAmount;
+
+    private double projectedTotal;
+}
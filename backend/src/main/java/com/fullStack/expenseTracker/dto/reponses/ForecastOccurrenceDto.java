@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class ForecastOccurrenceDto {
+
+    private LocalDate date;
+
+    private long planId;
+
+    private String description;
+
+    private String categoryName;
+
+    private String transactionType;
+
+    private double amount;
+}
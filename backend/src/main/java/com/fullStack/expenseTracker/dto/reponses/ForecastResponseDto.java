@@ -0,0 +1,32 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ForecastResponseDto {
+
+    private LocalDate periodStart;
+
+    private LocalDate asOf;
+
+    private LocalDate until;
+
+    private double actualIncome;
+
+    private double actualExpense;
+
+    private double projectedIncome;
+
+    private double projectedExpense;
+
+    private double projectedBalance;
+
+    private List<ForecastCategoryDto> categories;
+
+    private List<ForecastOccurrenceDto> upcoming;
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PivotCategoryDto {
+
+    private int categoryId;
+
+    private String categoryName;
+
+    private String transactionType;
+}
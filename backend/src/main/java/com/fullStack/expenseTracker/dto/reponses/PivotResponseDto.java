@@ -0,0 +1,23 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Category x month matrix: row i of {@code totals} and {@code counts} belongs to {@code categories[i]}
+ * and column j to {@code months[j]}.
+ */
+@Data
+@AllArgsConstructor
+public class PivotResponseDto {
+
+    private List<String> months;
+
+    private List<PivotCategoryDto> categories;
+
+    private double[][] totals;
+
+    private long[][] counts;
+}
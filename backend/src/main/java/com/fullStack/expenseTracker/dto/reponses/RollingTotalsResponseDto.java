@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class RollingTotalsResponseDto {
+
+    private LocalDate asOf;
+
+    private List<RollingWindowDto> windows;
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RollingWindowDto {
+
+    private int days;
+
+    private double expense;
+
+    private double income;
+}
@@ -0,0 +1,18 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+
+    T data;
+
+    int pageNumber;
+
+    boolean hasNext;
+
+    String approximateTotal;
+
+}
@@ -0,0 +1,25 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class SpendingAnomalyDto {
+
+    private long transactionId;
+
+    private LocalDate date;
+
+    private String categoryName;
+
+    private String description;
+
+    private double amount;
+
+    private double expectedAmount;
+
+    private double deviation;
+}
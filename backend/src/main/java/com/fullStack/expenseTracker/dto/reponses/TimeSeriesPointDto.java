@@ -0,0 +1,19 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class TimeSeriesPointDto {
+
+    private LocalDate bucketStart;
+
+    private double income;
+
+    private double expense;
+
+    private long noOfTransactions;
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import com.fullStack.expenseTracker.enums.EReportBucket;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TimeSeriesResponseDto {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private EReportBucket bucket;
+
+    private List<TimeSeriesPointDto> points;
+}
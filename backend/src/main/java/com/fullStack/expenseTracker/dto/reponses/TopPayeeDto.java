@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TopPayeeDto {
+
+    private String payee;
+
+    private double totalAmount;
+
+    private long noOfTransactions;
+
+    private double maxOverestimate;
+}
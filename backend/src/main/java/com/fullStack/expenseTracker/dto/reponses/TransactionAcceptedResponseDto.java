@@ -0,0 +1,14 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TransactionAcceptedResponseDto {
+
+    private String provisionalId;
+
+    private String message;
+
+}
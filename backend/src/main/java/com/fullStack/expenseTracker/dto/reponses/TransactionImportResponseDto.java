@@ -0,0 +1,20 @@
+package com.fullStack.expenseTracker.dto.reponses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TransactionImportResponseDto {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long failedRows;
+
+    private List<ImportRowErrorDto> errors;
+
+}
@@ -0,0 +1,21 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class TransactionBatchRequestDto {
+
+    private List<TransactionRequestDto> creates = new ArrayList<>();
+
+    private List<TransactionBatchUpdateDto> updates = new ArrayList<>();
+
+    private List<Long> deletes = new ArrayList<>();
+
+}
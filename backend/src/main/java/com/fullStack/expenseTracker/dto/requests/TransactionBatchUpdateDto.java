@@ -0,0 +1,16 @@
+package com.fullStack.expenseTracker.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class TransactionBatchUpdateDto {
+
+    private Long transactionId;
+
+    private TransactionRequestDto transaction;
+
+}
@@ -0,0 +1,6 @@
+package com.fullStack.expenseTracker.enums;
+
+public enum EIdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
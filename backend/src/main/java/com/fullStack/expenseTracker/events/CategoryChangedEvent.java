@@ -0,0 +1,36 @@
+package com.fullStack.expenseTracker.events;
+
+import com.fullStack.expenseTracker.models.Category;
+
+import java.util.Objects;
+
+/**
+ * Published inside the DB transaction that updates a category. Rollup rows and in-process indexes key
+ * transactions by the category's name and transaction type as they were when written, so listeners
+ * use this to move them over.
+ */
+public record CategoryChangedEvent(int categoryId,
+                                   String previousName,
+                                   int previousTransactionTypeId,
+                                   String categoryName,
+                                   int transactionTypeId,
+                                   String transactionTypeName) {
+
+    public static CategoryChangedEvent of(String previousName, int previousTransactionTypeId, Category category) {
+        return new CategoryChangedEvent(
+                category.getCategoryId(),
+                previousName,
+                previousTransactionTypeId,
+                category.getCategoryName(),
+                category.getTransactionType().getTransactionTypeId(),
+                category.getTransactionType().getTransactionTypeName().name());
+    }
+
+    public boolean renamed() {
+        return !Objects.equals(previousName, categoryName);
+    }
+
+    public boolean transactionTypeChanged() {
+        return previousTransactionTypeId != transactionTypeId;
+    }
+}
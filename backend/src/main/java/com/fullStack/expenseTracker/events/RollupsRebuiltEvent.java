@@ -0,0 +1,8 @@
+package com.fullStack.expenseTracker.events;
+
+/**
+ * Published inside the DB transaction that rebuilds monthly_rollup, for one user or for everyone when
+ * {@code userId} is null, so after-commit listeners can drop state derived from the old rows.
+ */
+public record RollupsRebuiltEvent(Long userId) {
+}
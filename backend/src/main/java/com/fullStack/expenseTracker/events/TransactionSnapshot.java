@@ -0,0 +1,46 @@
+package com.fullStack.expenseTracker.events;
+
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the transaction columns that derived state (rollups, caches, the search index)
+ * is built from, taken before or after a write.
+ */
+public record TransactionSnapshot(Long transactionId,
+                                  Long userId,
+                                  String userEmail,
+                                  Integer categoryId,
+                                  String categoryName,
+                                  Integer transactionTypeId,
+                                  String transactionTypeName,
+                                  String description,
+                                  Double amount,
+                                  LocalDate date) {
+
+    public static TransactionSnapshot of(Transaction transaction) {
+        return of(transaction.getTransactionId(),
+                transaction.getUser().getId(),
+                transaction.getUser().getEmail(),
+                transaction.getCategory(),
+                transaction.getDescription(),
+                transaction.getAmount(),
+                transaction.getDate());
+    }
+
+    public static TransactionSnapshot of(Long transactionId, Long userId, String userEmail, Category category,
+                                         String description, double amount, LocalDate date) {
+        return new TransactionSnapshot(transactionId,
+                userId,
+                userEmail,
+                category.getCategoryId(),
+                category.getCategoryName(),
+                category.getTransactionType().getTransactionTypeId(),
+                category.getTransactionType().getTransactionTypeName().name(),
+                description,
+                amount,
+                date);
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullStack.expenseTracker.events;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published inside the writing DB transaction for every create, update and delete of transactions.
+ * Synchronous listeners update derived tables in the same transaction; after-commit listeners
+ * refresh in-process state.
+ */
+public record TransactionsChangedEvent(List<TransactionChange> changes) {
+
+    public static TransactionsChangedEvent of(TransactionChange change) {
+        return new TransactionsChangedEvent(List.of(change));
+    }
+
+    public static TransactionsChangedEvent created(List<TransactionSnapshot> snapshots) {
+        List<TransactionChange> changes = new ArrayList<>(snapshots.size());
+        for (TransactionSnapshot snapshot : snapshots) {
+            changes.add(TransactionChange.created(snapshot));
+        }
+        return new TransactionsChangedEvent(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public Set<Long> affectedUserIds() {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (TransactionChange change : changes) {
+            if (change.before() != null) {
+                userIds.add(change.before().userId());
+            }
+            if (change.after() != null) {
+                userIds.add(change.after().userId());
+            }
+        }
+        return userIds;
+    }
+
+    public Set<String> affectedEmails() {
+        Set<String> emails = new LinkedHashSet<>();
+        for (TransactionChange change : changes) {
+            if (change.before() != null) {
+                emails.add(change.before().userEmail());
+            }
+            if (change.after() != null) {
+                emails.add(change.after().userEmail());
+            }
+        }
+        return emails;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullStack.expenseTracker.events;
+
+import com.fullStack.expenseTracker.enums.ERole;
+import com.fullStack.expenseTracker.models.Role;
+import com.fullStack.expenseTracker.models.User;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Published when a sign-up saves a new user, so after-commit listeners can index the account.
+ */
+public record UserRegisteredEvent(long userId, String username, String email, Set<ERole> roles) {
+
+    public static UserRegisteredEvent of(User user) {
+        Set<ERole> roles = EnumSet.noneOf(ERole.class);
+        for (Role role : user.getRoles()) {
+            roles.add(role.getName());
+        }
+        return new UserRegisteredEvent(user.getId(), user.getUsername(), user.getEmail(), roles);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.exceptions;
+
+public class ReportNotReadyException extends Exception{
+    public ReportNotReadyException(String message) {
+        super(message);
+    }
+}
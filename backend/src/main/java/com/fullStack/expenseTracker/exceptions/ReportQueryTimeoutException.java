@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.exceptions;
+
+public class ReportQueryTimeoutException extends Exception{
+    public ReportQueryTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullStack.expenseTracker.exceptions;
+
+public class TransactionQueueFullException extends Exception{
+    public TransactionQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fullStack.expenseTracker.handlers;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.exceptions.ReportNotReadyException;
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ReportExceptionHandler {
+    @ExceptionHandler(value = ReportQueryTimeoutException.class)
+    public ResponseEntity<ApiResponseDto<String>> ReportQueryTimeoutExceptionHandler(ReportQueryTimeoutException exception) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(
+                        new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage())
+                );
+    }
+
+    @ExceptionHandler(value = ReportNotReadyException.class)
+    public ResponseEntity<ApiResponseDto<String>> ReportNotReadyExceptionHandler(ReportNotReadyException exception) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(
+                        new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage())
+                );
+    }
+}
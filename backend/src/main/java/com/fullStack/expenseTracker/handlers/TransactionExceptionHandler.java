@@ -3,8 +3,10 @@ package com.fullStack.expenseTracker.handlers;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
+import com.fullStack.expenseTracker.exceptions.TransactionQueueFullException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.TransactionTypeNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -38,4 +40,14 @@ public class TransactionExceptionHandler {
                         new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.NOT_FOUND, exception.getMessage())
                 );
     }
+
+    @ExceptionHandler(value = TransactionQueueFullException.class)
+    public ResponseEntity<ApiResponseDto<String>> TransactionQueueFullExceptionHandler(TransactionQueueFullException exception) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(
+                        new ApiResponseDto<>(ApiResponseStatus.FAILED, HttpStatus.TOO_MANY_REQUESTS, exception.getMessage())
+                );
+    }
 }
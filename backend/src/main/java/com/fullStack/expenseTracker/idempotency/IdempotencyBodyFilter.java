@@ -0,0 +1,31 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Buffers the body of requests carrying an Idempotency-Key so it can be fingerprinted before the handler
+ * reads it. Multipart requests are left alone; their parts are already buffered by the multipart resolver.
+ */
+public class IdempotencyBodyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return request.getHeader(IdempotencyInterceptor.HEADER) == null
+                || (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/"));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(new CachedBodyRequest(request), response);
+    }
+}
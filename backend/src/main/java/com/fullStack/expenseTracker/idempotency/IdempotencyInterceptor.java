@@ -0,0 +1,158 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.services.IdempotencyService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resolves the Idempotency-Key header for {@link Idempotent} handlers. A key seen before is
+ * answered from the stored response without invoking the handler; a key whose first request is
+ * still running gets 409. Keys are scoped to the caller, HTTP method and URL, and the first request's
+ * body is fingerprinted so that reusing a key with a different payload gets 422 instead of the old response.
+ */
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+
+    static final String COMPLETED_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".completed";
+
+    static final String REQUEST_HASH_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".requestHash";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectProvider<IdempotencyService> idempotencyService;
+
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyInterceptor(ObjectProvider<IdempotencyService> idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String key = request.getHeader(HEADER);
+        IdempotencyService service = idempotencyService.getIfAvailable();
+        if (key == null || key.isBlank() || service == null) {
+            return true;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeFailure(response, HttpStatus.BAD_REQUEST, "Idempotency-Key can have atmost " + MAX_KEY_LENGTH + " characters!");
+            return false;
+        }
+
+        String scopedKey = scope(request, key);
+        String requestHash = fingerprint(request);
+        StoredResponse stored = service.begin(scopedKey, requestHash);
+        if (stored == null) {
+            request.setAttribute(KEY_ATTRIBUTE, scopedKey);
+            request.setAttribute(REQUEST_HASH_ATTRIBUTE, requestHash);
+            return true;
+        }
+        if (!stored.matches(requestHash)) {
+            writeFailure(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "This Idempotency-Key was already used with a different request!");
+            return false;
+        }
+        if (!stored.completed()) {
+            writeFailure(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed!");
+            return false;
+        }
+
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(stored.body() == null ? "" : stored.body());
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Object scopedKey = request.getAttribute(KEY_ATTRIBUTE);
+        IdempotencyService service = idempotencyService.getIfAvailable();
+        if (scopedKey != null && request.getAttribute(COMPLETED_ATTRIBUTE) == null && service != null) {
+            service.release((String) scopedKey);
+        }
+    }
+
+    private String scope(HttpServletRequest request, String key) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String caller = authentication == null ? "anonymous" : authentication.getName();
+        String query = request.getQueryString() == null ? "" : "?" + request.getQueryString();
+        return caller + "|" + request.getMethod() + " " + request.getRequestURI() + query + "|" + key;
+    }
+
+    static String fingerprint(HttpServletRequest request) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        MultipartHttpServletRequest multipart = WebUtils.getNativeRequest(request, MultipartHttpServletRequest.class);
+        CachedBodyRequest cached = WebUtils.getNativeRequest(request, CachedBodyRequest.class);
+        if (multipart != null) {
+            for (Map.Entry<String, String[]> parameter : new TreeMap<>(multipart.getParameterMap()).entrySet()) {
+                update(digest, parameter.getKey());
+                for (String value : parameter.getValue()) {
+                    update(digest, value);
+                }
+            }
+            for (Map.Entry<String, List<MultipartFile>> part : new TreeMap<>(multipart.getMultiFileMap()).entrySet()) {
+                update(digest, part.getKey());
+                for (MultipartFile file : part.getValue()) {
+                    digest.update(file.getBytes());
+                    digest.update((byte) 0);
+                }
+            }
+        } else if (cached != null) {
+            digest.update(cached.body());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private void writeFailure(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new ApiResponseDto<>(ApiResponseStatus.FAILED, status, message));
+    }
+}
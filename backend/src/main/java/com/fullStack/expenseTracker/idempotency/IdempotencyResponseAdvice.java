@@ -0,0 +1,67 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.services.IdempotencyService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Records the successful JSON response of an {@link Idempotent} request under the key claimed by
+ * {@link IdempotencyInterceptor}, so retries can be replayed byte for byte.
+ */
+@RestControllerAdvice
+@Slf4j
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private ObjectProvider<IdempotencyService> idempotencyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        Object scopedKey = httpRequest.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE);
+        int status = servletResponse.getServletResponse().getStatus();
+        IdempotencyService service = idempotencyService.getIfAvailable();
+        if (scopedKey == null || service == null || status < 200 || status >= 300) {
+            return body;
+        }
+
+        try {
+            service.complete((String) scopedKey,
+                    (String) httpRequest.getAttribute(IdempotencyInterceptor.REQUEST_HASH_ATTRIBUTE),
+                    status, objectMapper.writeValueAsString(body));
+            httpRequest.setAttribute(IdempotencyInterceptor.COMPLETED_ATTRIBUTE, Boolean.TRUE);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to record idempotent response: {}", e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.services.IdempotencyService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class IdempotencyWebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<IdempotencyService> idempotencyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyBodyFilter> idempotencyBodyFilter() {
+        FilterRegistrationBean<IdempotencyBodyFilter> registration = new FilterRegistrationBean<>(new IdempotencyBodyFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new IdempotencyInterceptor(idempotencyService, objectMapper));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a write endpoint whose successful response is stored under the client's Idempotency-Key
+ * header and replayed for retries with the same key, instead of running the handler again.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.idempotency;
+
+/**
+ * Outcome recorded for an idempotency key: either a marker that the first request is still
+ * running, or the status and JSON body that should be replayed to retries. Both carry the
+ * fingerprint of the first request's body, so a retry with a different payload can be refused.
+ */
+public record StoredResponse(boolean completed, int status, String body, String requestHash) {
+
+    public static StoredResponse inProgress(String requestHash) {
+        return new StoredResponse(false, 0, null, requestHash);
+    }
+
+    public boolean matches(String otherRequestHash) {
+        return requestHash == null || requestHash.equals(otherRequestHash);
+    }
+}
@@ -0,0 +1,148 @@
+package com.fullStack.expenseTracker.imports;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads CSV statements with a header row containing at least date, description and amount
+ * columns (any order, case-insensitive) and optional category and type columns. The type
+ * (expense/income, or the TYPE_EXPENSE/TYPE_INCOME values written by the export) tells apart
+ * an expense and an income category that share a name.
+ * Quoted fields may contain commas and doubled quotes but must not span lines.
+ */
+public class CsvTransactionFileReader implements TransactionFileReader {
+
+    private final BufferedReader reader;
+
+    private long lineNumber;
+
+    private int dateColumn = -1;
+
+    private int descriptionColumn = -1;
+
+    private int amountColumn = -1;
+
+    private int categoryColumn = -1;
+
+    private int typeColumn = -1;
+
+    public CsvTransactionFileReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new IOException("The CSV file is empty");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> columns = splitLine(header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "date" -> dateColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "amount" -> amountColumn = i;
+                case "category" -> categoryColumn = i;
+                case "type", "transactiontype" -> typeColumn = i;
+                default -> { }
+            }
+        }
+        if (dateColumn < 0 || descriptionColumn < 0 || amountColumn < 0) {
+            throw new IOException("The CSV header must contain date, description and amount columns");
+        }
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        List<String> fields = splitLine(line);
+        int required = Math.max(Math.max(dateColumn, descriptionColumn), Math.max(amountColumn, Math.max(categoryColumn, typeColumn)));
+        if (fields.size() <= required) {
+            return ImportedTransaction.failed(lineNumber, "Expected " + (required + 1) + " columns but found " + fields.size());
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(fields.get(dateColumn).trim());
+        } catch (DateTimeParseException e) {
+            return ImportedTransaction.failed(lineNumber, "Invalid date '" + fields.get(dateColumn) + "', expected yyyy-MM-dd");
+        }
+
+        double amount;
+        try {
+            amount = Double.parseDouble(fields.get(amountColumn).trim());
+        } catch (NumberFormatException e) {
+            return ImportedTransaction.failed(lineNumber, "Invalid amount '" + fields.get(amountColumn) + "'");
+        }
+
+        ETransactionType transactionType = null;
+        String type = typeColumn < 0 ? "" : fields.get(typeColumn).trim().toLowerCase(Locale.ROOT);
+        switch (type.startsWith("type_") ? type.substring(5) : type) {
+            case "expense" -> transactionType = ETransactionType.TYPE_EXPENSE;
+            case "income" -> transactionType = ETransactionType.TYPE_INCOME;
+            case "" -> { }
+            default -> {
+                return ImportedTransaction.failed(lineNumber, "Invalid type '" + fields.get(typeColumn) + "', expected expense or income");
+            }
+        }
+
+        String categoryName = categoryColumn < 0 ? null : fields.get(categoryColumn).trim();
+        return new ImportedTransaction(lineNumber, date, fields.get(descriptionColumn).trim(), amount,
+                categoryName == null || categoryName.isEmpty() ? null : categoryName, transactionType, null);
+    }
+
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
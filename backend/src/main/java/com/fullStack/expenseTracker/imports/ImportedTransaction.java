@@ -0,0 +1,18 @@
+package com.fullStack.expenseTracker.imports;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+
+import java.time.LocalDate;
+
+public record ImportedTransaction(long lineNumber,
+                                  LocalDate date,
+                                  String description,
+                                  Double amount,
+                                  String categoryName,
+                                  ETransactionType transactionType,
+                                  String error) {
+
+    public static ImportedTransaction failed(long lineNumber, String error) {
+        return new ImportedTransaction(lineNumber, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,109 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Reads the STMTTRN records of an OFX/QFX statement (SGML or XML flavour) tag by tag.
+ * Only DTPOSTED, TRNAMT, NAME and MEMO are used; OFX carries no category, so rows are
+ * returned without one and the sign of TRNAMT decides between expense and income.
+ */
+public class OfxTransactionFileReader implements TransactionFileReader {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+
+    private final Deque<String> pendingSegments = new ArrayDeque<>();
+
+    private long lineNumber;
+
+    public OfxTransactionFileReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        long startLine = -1;
+        String posted = null;
+        String amount = null;
+        String name = null;
+        String memo = null;
+
+        String segment;
+        while ((segment = nextSegment()) != null) {
+            int close = segment.indexOf('>');
+            if (close < 0) {
+                continue;
+            }
+            String tag = segment.substring(0, close).trim().toUpperCase(Locale.ROOT);
+            String value = segment.substring(close + 1).trim();
+
+            if (tag.equals("STMTTRN")) {
+                startLine = lineNumber;
+                posted = amount = name = memo = null;
+            } else if (startLine >= 0) {
+                switch (tag) {
+                    case "DTPOSTED" -> posted = value;
+                    case "TRNAMT" -> amount = value;
+                    case "NAME" -> name = value;
+                    case "MEMO" -> memo = value;
+                    case "/STMTTRN" -> {
+                        return toTransaction(startLine, posted, amount, name != null && !name.isEmpty() ? name : memo);
+                    }
+                    default -> { }
+                }
+            }
+        }
+        return null;
+    }
+
+    private ImportedTransaction toTransaction(long line, String posted, String amount, String description) {
+        if (posted == null || posted.length() < 8) {
+            return ImportedTransaction.failed(line, "Missing or invalid DTPOSTED");
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(posted.substring(0, 8), OFX_DATE);
+        } catch (DateTimeParseException e) {
+            return ImportedTransaction.failed(line, "Invalid DTPOSTED '" + posted + "'");
+        }
+        double value;
+        try {
+            value = Double.parseDouble(amount == null ? "" : amount.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return ImportedTransaction.failed(line, "Invalid TRNAMT '" + amount + "'");
+        }
+        return new ImportedTransaction(line, date, description == null ? "" : description, value, null, null, null);
+    }
+
+    private String nextSegment() throws IOException {
+        while (pendingSegments.isEmpty()) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            for (String segment : line.split("<")) {
+                if (!segment.isBlank()) {
+                    pendingSegments.add(segment);
+                }
+            }
+        }
+        return pendingSegments.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.fullStack.expenseTracker.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull-based reader over an uploaded statement. Implementations read the underlying
+ * stream incrementally and hand out one row at a time, so an import never holds the
+ * whole file in memory.
+ */
+public interface TransactionFileReader extends Closeable {
+
+    /**
+     * @return the next parsed row (possibly carrying a per-row error), or null at end of file
+     */
+    ImportedTransaction next() throws IOException;
+
+}
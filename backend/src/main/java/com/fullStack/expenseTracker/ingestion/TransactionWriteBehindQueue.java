@@ -0,0 +1,395 @@
+package com.fullStack.expenseTracker.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional write-behind path for single transaction creation. Validated rows are parked in a
+ * bounded queue and acknowledged with a provisional id; one writer thread drains the queue and
+ * commits them in groups, once max-batch-size rows are waiting or the flush interval elapses.
+ * <p>
+ * An acknowledged row is never dropped. A failed group commit is retried with exponential backoff
+ * until it succeeds, and new rows are refused while the writer is failing. Only rows the database
+ * rejects outright (integrity violations) are taken out of the batch, into a rejected file next to
+ * the spill file. Rows still unwritten when shutdown gives up waiting are spilled to disk and
+ * written first on the next start.
+ */
+@Component
+@Slf4j
+public class TransactionWriteBehindQueue {
+
+    private static final long IDLE_POLL_MS = 250;
+
+    public record PendingTransaction(String provisionalId, NewTransactionRow row, String userEmail, Category category) {
+    }
+
+    public record SpilledTransaction(String provisionalId, NewTransactionRow row, String userEmail, int categoryId) {
+
+        static SpilledTransaction of(PendingTransaction pending) {
+            return new SpilledTransaction(pending.provisionalId(), pending.row(), pending.userEmail(),
+                    pending.category().getCategoryId());
+        }
+    }
+
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.transaction.ingestion.write-behind:false}")
+    private boolean enabled;
+
+    @Value("${app.transaction.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.transaction.ingestion.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${app.transaction.ingestion.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${app.transaction.ingestion.retry-initial-backoff-ms:100}")
+    private long retryInitialBackoffMs;
+
+    @Value("${app.transaction.ingestion.retry-max-backoff-ms:5000}")
+    private long retryMaxBackoffMs;
+
+    @Value("${app.transaction.ingestion.shutdown-wait-ms:10000}")
+    private long shutdownWaitMs;
+
+    @Value("${app.transaction.ingestion.spill-file:write-behind-spill.ndjson}")
+    private String spillFile;
+
+    private BlockingQueue<PendingTransaction> queue;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    private volatile boolean failing;
+
+    // rows taken off the queue but not yet committed, recovered spill rows included
+    private final Map<String, PendingTransaction> unwritten = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean offer(PendingTransaction pending) {
+        return running && !failing && queue.offer(pending);
+    }
+
+    public boolean isFailing() {
+        return failing;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled) {
+            if (Files.exists(Paths.get(spillFile))) {
+                log.warn("Write-behind is disabled but {} holds unwritten transactions; enable it to write them", spillFile);
+            }
+            return;
+        }
+        if (writer != null) {
+            return;
+        }
+        recoverSpill();
+        running = true;
+        writer = new Thread(this::drainLoop, "transaction-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Transaction write-behind queue started (capacity {}, batch {}, flush every {} ms)",
+                queueCapacity, maxBatchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(shutdownWaitMs);
+            if (writer.isAlive()) {
+                // still retrying against a failing database: stop it and keep the rows on disk
+                writer.interrupt();
+                writer.join(shutdownWaitMs);
+            }
+            writer = null;
+        }
+        List<PendingTransaction> leftover;
+        synchronized (unwritten) {
+            leftover = new ArrayList<>(unwritten.values());
+            unwritten.clear();
+        }
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            spill(leftover);
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingTransaction> batch = new ArrayList<>(maxBatchSize);
+        try {
+            writeRecovered();
+            while (running || !queue.isEmpty()) {
+                PendingTransaction first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingTransaction next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                synchronized (unwritten) {
+                    batch.forEach(pending -> unwritten.put(pending.provisionalId(), pending));
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // keep whatever was taken off the queue so stop() spills it along with the rest
+            Thread.currentThread().interrupt();
+            queue.drainTo(batch);
+            synchronized (unwritten) {
+                batch.forEach(pending -> unwritten.putIfAbsent(pending.provisionalId(), pending));
+            }
+        }
+    }
+
+    private void writeRecovered() throws InterruptedException {
+        while (true) {
+            List<PendingTransaction> batch = new ArrayList<>(maxBatchSize);
+            synchronized (unwritten) {
+                Iterator<PendingTransaction> recovered = unwritten.values().iterator();
+                while (recovered.hasNext() && batch.size() < maxBatchSize) {
+                    batch.add(recovered.next());
+                }
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            write(batch);
+        }
+        deleteSpill();
+    }
+
+    /**
+     * Commits the batch, backing off and retrying for as long as the database keeps failing. Returns once
+     * every row is either committed or moved to the rejected file.
+     */
+    private void write(List<PendingTransaction> batch) throws InterruptedException {
+        List<PendingTransaction> remaining = batch;
+        long backoffMs = retryInitialBackoffMs;
+        while (true) {
+            Exception failure;
+            try {
+                List<PendingTransaction> toWrite = remaining;
+                transactionTemplate.executeWithoutResult(status -> insert(toWrite));
+                written(toWrite);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Group commit of {} queued transactions was rejected, writing them one by one: {}",
+                        remaining.size(), e.getMessage());
+                List<PendingTransaction> retry = new ArrayList<>();
+                failure = writeOneByOne(remaining, retry);
+                if (retry.isEmpty()) {
+                    break;
+                }
+                remaining = retry;
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            if (!failing) {
+                log.error("Write-behind writer is failing, refusing new transactions until {} queued rows are written: {}",
+                        remaining.size() + queue.size(), failure.getMessage());
+            }
+            failing = true;
+            Thread.sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, retryMaxBackoffMs);
+        }
+        if (failing) {
+            log.info("Write-behind writer recovered");
+            failing = false;
+        }
+    }
+
+    private Exception writeOneByOne(List<PendingTransaction> batch, List<PendingTransaction> retry) {
+        Exception failure = null;
+        List<PendingTransaction> rejected = new ArrayList<>();
+        for (PendingTransaction pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+                written(List.of(pending));
+            } catch (DataIntegrityViolationException e) {
+                log.error("Queued transaction {} was rejected by the database: {}", pending.provisionalId(), e.getMessage());
+                rejected.add(pending);
+            } catch (Exception e) {
+                failure = e;
+                retry.add(pending);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            appendLines(rejectedPath(), rejected);
+            written(rejected);
+        }
+        return failure;
+    }
+
+    private void written(List<PendingTransaction> rows) {
+        synchronized (unwritten) {
+            rows.forEach(pending -> unwritten.remove(pending.provisionalId()));
+        }
+    }
+
+    private void recoverSpill() {
+        Path path = Paths.get(spillFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+        Map<Integer, Optional<Category>> categories = new HashMap<>();
+        List<SpilledTransaction> rejected = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                SpilledTransaction spilled = objectMapper.readValue(line, SpilledTransaction.class);
+                Optional<Category> category = categories.computeIfAbsent(spilled.categoryId(), categoryRepository::findById);
+                if (category.isPresent()) {
+                    unwritten.put(spilled.provisionalId(), new PendingTransaction(spilled.provisionalId(), spilled.row(),
+                            spilled.userEmail(), category.get()));
+                } else {
+                    log.error("Spilled transaction {} refers to missing category {}", spilled.provisionalId(), spilled.categoryId());
+                    rejected.add(spilled);
+                }
+            }
+        } catch (IOException e) {
+            // leave the file in place; the rows are written once it can be read
+            throw new IllegalStateException("Failed to read write-behind spill file " + path, e);
+        }
+        if (!rejected.isEmpty()) {
+            appendSpilledLines(rejectedPath(), rejected);
+        }
+        log.info("Recovered {} spilled transactions from {}", unwritten.size(), path);
+    }
+
+    private void spill(List<PendingTransaction> rows) {
+        Path path = Paths.get(spillFile);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(temp, toLines(rows.stream().map(SpilledTransaction::of).toList()), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.warn("Spilled {} unwritten transactions to {}, they are written on the next start", rows.size(), path);
+        } catch (IOException e) {
+            log.error("Failed to spill {} unwritten transactions to {}: {}", rows.size(), path, e.getMessage());
+            rows.forEach(pending -> log.error("Unwritten transaction {}: {}", pending.provisionalId(), pending.row()));
+        }
+    }
+
+    private void deleteSpill() {
+        try {
+            Files.deleteIfExists(Paths.get(spillFile));
+        } catch (IOException e) {
+            log.error("Failed to delete write-behind spill file {}: {}", spillFile, e.getMessage());
+        }
+    }
+
+    private void appendLines(Path path, List<PendingTransaction> rows) {
+        appendSpilledLines(path, rows.stream().map(SpilledTransaction::of).toList());
+    }
+
+    private void appendSpilledLines(Path path, List<SpilledTransaction> rows) {
+        try {
+            Files.write(path, toLines(rows), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to record {} rejected transactions in {}: {}", rows.size(), path, e.getMessage());
+            rows.forEach(row -> log.error("Rejected transaction {}: {}", row.provisionalId(), row.row()));
+        }
+    }
+
+    private List<String> toLines(List<SpilledTransaction> rows) throws IOException {
+        List<String> lines = new ArrayList<>(rows.size());
+        for (SpilledTransaction row : rows) {
+            lines.add(objectMapper.writeValueAsString(row));
+        }
+        return lines;
+    }
+
+    private Path rejectedPath() {
+        Path path = Paths.get(spillFile);
+        return path.resolveSibling(path.getFileName() + ".rejected");
+    }
+
+    private void insert(List<PendingTransaction> batch) {
+        List<Long> ids = transactionJdbcRepository.batchInsert(batch.stream().map(PendingTransaction::row).toList());
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException("Expected " + batch.size() + " generated ids but got " + ids.size());
+        }
+        List<TransactionSnapshot> created = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingTransaction pending = batch.get(i);
+            NewTransactionRow row = pending.row();
+            created.add(TransactionSnapshot.of(ids.get(i), row.userId(), pending.userEmail(), pending.category(),
+                    row.description(), row.amount(), row.date()));
+        }
+        eventPublisher.publishEvent(TransactionsChangedEvent.created(created));
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullStack.expenseTracker.insights;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One user's income and expense per day for the last {@value #DAYS} days, in cents, held in a ring
+ * indexed by epoch day, with a running sum per rolling window. Advancing a day subtracts the day that
+ * leaves each window, so reading a window total never rescans the days. Transactions dated after the
+ * head day wait in a small side map until their date is reached. Not thread-safe.
+ */
+final class DailySpendRing {
+
+    static final int DAYS = 90;
+
+    static final int[] WINDOWS = {7, 30, 90};
+
+    private final long[] expenseCents = new long[DAYS];
+
+    private final long[] incomeCents = new long[DAYS];
+
+    private final long[] expenseSums = new long[WINDOWS.length];
+
+    private final long[] incomeSums = new long[WINDOWS.length];
+
+    private final TreeMap<Integer, long[]> upcoming = new TreeMap<>();
+
+    private int headDay;
+
+    DailySpendRing(int headDay) {
+        this.headDay = headDay;
+    }
+
+    int headDay() {
+        return headDay;
+    }
+
+    void add(int epochDay, long cents, boolean income) {
+        if (epochDay > headDay) {
+            upcoming.computeIfAbsent(epochDay, day -> new long[2])[income ? 1 : 0] += cents;
+            return;
+        }
+        if (epochDay <= headDay - DAYS) {
+            return;
+        }
+        (income ? incomeCents : expenseCents)[slot(epochDay)] += cents;
+        long[] sums = income ? incomeSums : expenseSums;
+        for (int w = 0; w < WINDOWS.length; w++) {
+            if (epochDay > headDay - WINDOWS[w]) {
+                sums[w] += cents;
+            }
+        }
+    }
+
+    void advanceTo(int epochDay) {
+        if (epochDay <= headDay) {
+            return;
+        }
+        if (epochDay - headDay >= DAYS) {
+            Arrays.fill(expenseCents, 0);
+            Arrays.fill(incomeCents, 0);
+            Arrays.fill(expenseSums, 0);
+            Arrays.fill(incomeSums, 0);
+            headDay = epochDay;
+        } else {
+            while (headDay < epochDay) {
+                int next = headDay + 1;
+                for (int w = 0; w < WINDOWS.length; w++) {
+                    int leaving = slot(next - WINDOWS[w]);
+                    expenseSums[w] -= expenseCents[leaving];
+                    incomeSums[w] -= incomeCents[leaving];
+                }
+                // the slot of the new day last held the day that just left the widest window
+                expenseCents[slot(next)] = 0;
+                incomeCents[slot(next)] = 0;
+                headDay = next;
+            }
+        }
+
+        while (!upcoming.isEmpty() && upcoming.firstKey() <= headDay) {
+            Map.Entry<Integer, long[]> due = upcoming.pollFirstEntry();
+            add(due.getKey(), due.getValue()[0], false);
+            add(due.getKey(), due.getValue()[1], true);
+        }
+    }
+
+    long expenseCents(int window) {
+        return expenseSums[window];
+    }
+
+    long incomeCents(int window) {
+        return incomeSums[window];
+    }
+
+    private static int slot(int epochDay) {
+        return Math.floorMod(epochDay, DAYS);
+    }
+}
@@ -0,0 +1,150 @@
+package com.fullStack.expenseTracker.insights;
+
+/**
+ * Open-addressing table of exponentially weighted mean and variance keyed by a packed (user, category)
+ * long, held in parallel primitive arrays so millions of series cost a few dozen bytes each and an update
+ * is a probe plus a handful of arithmetic operations.
+ */
+public class EwmaStatsTable {
+
+    private static final long EMPTY = 0L;
+
+    private static final int CATEGORY_BITS = 24;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    public record Stats(double mean, double variance, int samples) {
+
+        public double stdDev() {
+            return Math.sqrt(variance);
+        }
+    }
+
+    @FunctionalInterface
+    public interface StatsVisitor {
+        void visit(long userId, int categoryId, Stats stats);
+    }
+
+    private long[] keys;
+
+    private double[] means;
+
+    private double[] variances;
+
+    private int[] samples;
+
+    private int size;
+
+    public EwmaStatsTable(int expectedSeries) {
+        allocate(tableSizeFor(expectedSeries));
+    }
+
+    public static long keyOf(long userId, int categoryId) {
+        return (userId << CATEGORY_BITS) | (categoryId & ((1L << CATEGORY_BITS) - 1));
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized Stats get(long userId, int categoryId) {
+        int slot = find(keyOf(userId, categoryId));
+        return keys[slot] == EMPTY ? null : new Stats(means[slot], variances[slot], samples[slot]);
+    }
+
+    /**
+     * Folds {@code value} into the series and returns the statistics as they stood before it, or null
+     * for the first observation.
+     */
+    public synchronized Stats observe(long userId, int categoryId, double value, double alpha) {
+        long key = keyOf(userId, categoryId);
+        int slot = find(key);
+        if (keys[slot] == EMPTY) {
+            insert(slot, key, value, 0, 1);
+            return null;
+        }
+        Stats previous = new Stats(means[slot], variances[slot], samples[slot]);
+        double diff = value - means[slot];
+        double increment = alpha * diff;
+        means[slot] += increment;
+        variances[slot] = (1 - alpha) * (variances[slot] + diff * increment);
+        if (samples[slot] < Integer.MAX_VALUE) {
+            samples[slot]++;
+        }
+        return previous;
+    }
+
+    public synchronized void put(long userId, int categoryId, Stats stats) {
+        long key = keyOf(userId, categoryId);
+        int slot = find(key);
+        if (keys[slot] == EMPTY) {
+            insert(slot, key, stats.mean(), stats.variance(), stats.samples());
+        } else {
+            means[slot] = stats.mean();
+            variances[slot] = stats.variance();
+            samples[slot] = stats.samples();
+        }
+    }
+
+    public synchronized void forEach(StatsVisitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                visitor.visit(keys[slot] >>> CATEGORY_BITS, (int) (keys[slot] & ((1L << CATEGORY_BITS) - 1)),
+                        new Stats(means[slot], variances[slot], samples[slot]));
+            }
+        }
+    }
+
+    private void insert(int slot, long key, double mean, double variance, int count) {
+        keys[slot] = key;
+        means[slot] = mean;
+        variances[slot] = variance;
+        samples[slot] = count;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash();
+        }
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        double[] oldMeans = means;
+        double[] oldVariances = variances;
+        int[] oldSamples = samples;
+        allocate(oldKeys.length * 2);
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] != EMPTY) {
+                int slot = find(oldKeys[old]);
+                keys[slot] = oldKeys[old];
+                means[slot] = oldMeans[old];
+                variances[slot] = oldVariances[old];
+                samples[slot] = oldSamples[old];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        means = new double[capacity];
+        variances = new double[capacity];
+        samples = new int[capacity];
+    }
+
+    private static int tableSizeFor(int expectedSeries) {
+        int needed = (int) Math.ceil(Math.max(16, expectedSeries) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,183 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fullStack.expenseTracker.analytics.TransactionColumnStore;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.RollupsRebuiltEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Rolling 7, 30 and 90 day income and expense per user, answered from a per-user ring of daily totals.
+ * A user's ring is repaired from the database the first time it is read (after a restart, or after
+ * {@link #clear()}) and then kept current from committed writes.
+ * <p>
+ * A repair read can race with a write whose after-commit update lands after the ring is published, which
+ * would count that write twice. Writes are therefore registered as in flight while their DB transaction
+ * is open, and a repaired ring is only kept when no write for the user was in flight or completed while
+ * it was being read.
+ */
+@Component
+@Slf4j
+public class RollingSpendTracker {
+
+    // transactions dated further ahead than this are left out of the windows
+    private static final int MAX_FUTURE_DAYS = 366;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    public record WindowTotals(int days, double expense, double income) {
+    }
+
+    private final Map<Long, DailySpendRing> rings = new HashMap<>();
+
+    private final Map<Long, Integer> writesInFlight = new HashMap<>();
+
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    private long clears;
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Set<Long> userIds = event.affectedUserIds();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(event, userIds, true, false);
+            return;
+        }
+        synchronized (this) {
+            userIds.forEach(userId -> writesInFlight.merge(userId, 1, Integer::sum));
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(event, userIds, status == STATUS_COMMITTED, true);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.transactionTypeChanged()) {
+            clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRollupsRebuilt(RollupsRebuiltEvent event) {
+        clear();
+    }
+
+    public List<WindowTotals> windowTotals(long userId, String email) {
+        int today = (int) LocalDate.now().toEpochDay();
+        long generation;
+        long clearsAtStart;
+        boolean busy;
+        synchronized (this) {
+            DailySpendRing ring = rings.get(userId);
+            if (ring != null) {
+                ring.advanceTo(today);
+                return totalsOf(ring);
+            }
+            generation = generations.getOrDefault(userId, 0L);
+            clearsAtStart = clears;
+            busy = writesInFlight.containsKey(userId);
+        }
+
+        DailySpendRing repaired = repair(email, today);
+
+        synchronized (this) {
+            boolean unchanged = !busy && !writesInFlight.containsKey(userId) && clearsAtStart == clears
+                    && generation == generations.getOrDefault(userId, 0L);
+            DailySpendRing ring = rings.get(userId);
+            if (ring == null && unchanged) {
+                rings.put(userId, repaired);
+                generations.remove(userId);
+                ring = repaired;
+            }
+            if (ring == null) {
+                log.debug("Rolling totals of user {} changed while repairing, not keeping the ring", userId);
+                ring = repaired;
+            }
+            ring.advanceTo(today);
+            return totalsOf(ring);
+        }
+    }
+
+    /**
+     * Drops every ring so each is repaired from the database on its next read, for changes the write
+     * events don't describe, such as a category moving to another transaction type.
+     */
+    public synchronized void clear() {
+        rings.clear();
+        clears++;
+    }
+
+    private DailySpendRing repair(String email, int today) {
+        DailySpendRing ring = new DailySpendRing(today);
+        List<Object[]> rows = transactionRepository.findDailyTotalsByUser(email,
+                LocalDate.ofEpochDay(today - DailySpendRing.DAYS + 1), LocalDate.ofEpochDay(today + MAX_FUTURE_DAYS + 1));
+        for (Object[] row : rows) {
+            ring.add((int) ((LocalDate) row[0]).toEpochDay(),
+                    TransactionColumnStore.toCents(((Number) row[2]).doubleValue()),
+                    ETransactionType.TYPE_INCOME.name().equals(row[1]));
+        }
+        return ring;
+    }
+
+    private synchronized void complete(TransactionsChangedEvent event, Set<Long> userIds, boolean committed,
+                                       boolean registered) {
+        if (committed) {
+            for (TransactionChange change : event.changes()) {
+                apply(change.before(), -1);
+                apply(change.after(), 1);
+            }
+        }
+        for (Long userId : userIds) {
+            if (!rings.containsKey(userId)) {
+                generations.merge(userId, 1L, Long::sum);
+            }
+            if (registered) {
+                writesInFlight.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+            }
+        }
+    }
+
+    private void apply(TransactionSnapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        DailySpendRing ring = rings.get(snapshot.userId());
+        if (ring == null) {
+            return;
+        }
+        int day = (int) snapshot.date().toEpochDay();
+        if (day > ring.headDay() + MAX_FUTURE_DAYS) {
+            return;
+        }
+        ring.add(day, sign * TransactionColumnStore.toCents(snapshot.amount()),
+                ETransactionType.TYPE_INCOME.name().equals(snapshot.transactionTypeName()));
+    }
+
+    private static List<WindowTotals> totalsOf(DailySpendRing ring) {
+        List<WindowTotals> totals = new ArrayList<>(DailySpendRing.WINDOWS.length);
+        for (int w = 0; w < DailySpendRing.WINDOWS.length; w++) {
+            totals.add(new WindowTotals(DailySpendRing.WINDOWS[w],
+                    ring.expenseCents(w) / 100.0, ring.incomeCents(w) / 100.0));
+        }
+        return totals;
+    }
+}
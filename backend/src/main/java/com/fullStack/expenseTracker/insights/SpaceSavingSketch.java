@@ -0,0 +1,119 @@
+package com.fullStack.expenseTracker.insights;
+
+import java.util.*;
+
+/**
+ * Weighted Space-Saving heavy-hitters summary over a fixed number of counters. Any item whose true
+ * weight exceeds total/capacity is guaranteed to be tracked, and a tracked item's weight is over-estimated
+ * by at most its recorded error. Updates are a hash lookup, plus a scan of the (small, fixed) counter
+ * array when a new item has to replace the lightest one.
+ */
+public class SpaceSavingSketch {
+
+    public record Counter(String item, double weight, long count, double error) {
+    }
+
+    private final int capacity;
+
+    private final Map<String, Integer> slotByItem;
+
+    private final String[] items;
+
+    private final double[] weights;
+
+    private final long[] counts;
+
+    private final double[] errors;
+
+    private int size;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sketch capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slotByItem = new HashMap<>(capacity * 2);
+        this.items = new String[capacity];
+        this.weights = new double[capacity];
+        this.counts = new long[capacity];
+        this.errors = new double[capacity];
+    }
+
+    public static SpaceSavingSketch restore(int capacity, List<Counter> counters) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        counters.stream()
+                .sorted(Comparator.comparingDouble(Counter::weight).reversed())
+                .limit(capacity)
+                .forEach(counter -> {
+                    int slot = sketch.size++;
+                    sketch.items[slot] = counter.item();
+                    sketch.weights[slot] = counter.weight();
+                    sketch.counts[slot] = counter.count();
+                    sketch.errors[slot] = counter.error();
+                    sketch.slotByItem.put(counter.item(), slot);
+                });
+        return sketch;
+    }
+
+    public synchronized void offer(String item, double weight) {
+        Integer slot = slotByItem.get(item);
+        if (slot != null) {
+            weights[slot] += weight;
+            counts[slot]++;
+            return;
+        }
+        if (size < capacity) {
+            slot = size++;
+            errors[slot] = 0;
+            weights[slot] = weight;
+        } else {
+            slot = lightestSlot();
+            slotByItem.remove(items[slot]);
+            errors[slot] = weights[slot];
+            weights[slot] += weight;
+        }
+        items[slot] = item;
+        counts[slot] = 1;
+        slotByItem.put(item, slot);
+    }
+
+    /**
+     * Takes back an earlier offer when the item is still tracked. An evicted item's weight is already
+     * folded into another counter's error, so its retraction is dropped.
+     */
+    public synchronized void retract(String item, double weight) {
+        Integer slot = slotByItem.get(item);
+        if (slot == null) {
+            return;
+        }
+        weights[slot] = Math.max(0, weights[slot] - weight);
+        counts[slot] = Math.max(0, counts[slot] - 1);
+        errors[slot] = Math.min(errors[slot], weights[slot]);
+    }
+
+    public synchronized List<Counter> top(int limit) {
+        List<Counter> counters = counters();
+        counters.sort(Comparator.comparingDouble(Counter::weight).reversed());
+        return counters.subList(0, Math.min(limit, counters.size()));
+    }
+
+    public synchronized List<Counter> counters() {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++) {
+            if (counts[slot] > 0) {
+                counters.add(new Counter(items[slot], weights[slot], counts[slot], errors[slot]));
+            }
+        }
+        return counters;
+    }
+
+    private int lightestSlot() {
+        int lightest = 0;
+        for (int slot = 1; slot < size; slot++) {
+            if (weights[slot] < weights[lightest]) {
+                lightest = slot;
+            }
+        }
+        return lightest;
+    }
+}
@@ -0,0 +1,212 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.insights.EwmaStatsTable.Stats;
+import com.fullStack.expenseTracker.models.InsightCheckpoint;
+import com.fullStack.expenseTracker.repository.InsightCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flags expenses far above what a user usually spends in the category. Every committed expense write
+ * folds the amount into an exponentially weighted mean and variance for its (user, category) series and
+ * is scored against the statistics as they stood before it, all in memory from the change event itself.
+ * Series and each user's recent anomalies are checkpointed to insight_checkpoint on a fixed delay and
+ * reloaded at startup.
+ */
+@Component
+@Slf4j
+public class SpendingAnomalyDetector {
+
+    private static final String CHECKPOINT_PREFIX = "anomalies:";
+
+    private static final int MAX_RECENT_ANOMALIES = 20;
+
+    // keeps a fixed charge that never varies from flagging every small change in amount
+    private static final double MIN_STD_DEV_SHARE_OF_MEAN = 0.1;
+
+    public record SpendingAnomaly(long transactionId, int categoryId, String categoryName, String description,
+                                  LocalDate date, double amount, double expectedAmount, double deviation) {
+    }
+
+    public record SeriesState(int categoryId, double mean, double variance, int samples) {
+    }
+
+    public record UserCheckpoint(List<SeriesState> series, List<SpendingAnomaly> recent) {
+    }
+
+    @Autowired
+    private InsightCheckpointRepository insightCheckpointRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final EwmaStatsTable stats;
+
+    private final double alpha;
+
+    private final double deviationThreshold;
+
+    private final int minSamples;
+
+    private final Map<Long, Deque<SpendingAnomaly>> recentByUser = new ConcurrentHashMap<>();
+
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    public SpendingAnomalyDetector(@Value("${app.insights.anomaly.alpha:0.1}") double alpha,
+                                   @Value("${app.insights.anomaly.deviation-threshold:3.0}") double deviationThreshold,
+                                   @Value("${app.insights.anomaly.min-samples:5}") int minSamples,
+                                   @Value("${app.insights.anomaly.expected-series:10000}") int expectedSeries) {
+        this.alpha = alpha;
+        this.deviationThreshold = deviationThreshold;
+        this.minSamples = minSamples;
+        this.stats = new EwmaStatsTable(expectedSeries);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long started = System.currentTimeMillis();
+        List<InsightCheckpoint> checkpoints = insightCheckpointRepository.findByCheckpointKeyStartingWith(CHECKPOINT_PREFIX);
+        for (InsightCheckpoint checkpoint : checkpoints) {
+            long userId = Long.parseLong(checkpoint.getCheckpointKey().substring(CHECKPOINT_PREFIX.length()));
+            try {
+                UserCheckpoint state = objectMapper.readValue(checkpoint.getPayload(), UserCheckpoint.class);
+                for (SeriesState series : state.series()) {
+                    // a series written to since startup is newer than its checkpoint
+                    if (stats.get(userId, series.categoryId()) == null) {
+                        stats.put(userId, series.categoryId(),
+                                new Stats(series.mean(), series.variance(), series.samples()));
+                    }
+                }
+                recentByUser.computeIfAbsent(userId, id -> new ArrayDeque<>(state.recent()));
+            } catch (JsonProcessingException e) {
+                log.warn("Discarding unreadable anomaly checkpoint of user {}: {}", userId, e.getMessage());
+            }
+        }
+        log.info("Spending anomaly detector restored {} series for {} users in {} ms",
+                stats.size(), checkpoints.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        for (TransactionChange change : event.changes()) {
+            TransactionSnapshot before = change.before();
+            TransactionSnapshot after = change.after();
+            boolean amountOrCategoryChanged = before == null || after == null
+                    || !Objects.equals(before.amount(), after.amount())
+                    || !Objects.equals(before.categoryId(), after.categoryId());
+            if (!amountOrCategoryChanged) {
+                continue;
+            }
+            if (before != null) {
+                forget(before);
+            }
+            if (isExpense(after)) {
+                observe(after);
+            }
+        }
+    }
+
+    public List<SpendingAnomaly> recentAnomalies(long userId, int limit) {
+        Deque<SpendingAnomaly> recent = recentByUser.get(userId);
+        if (recent == null) {
+            return List.of();
+        }
+        synchronized (recent) {
+            return recent.stream().limit(limit).toList();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.insights.anomaly.checkpoint-interval-ms:60000}")
+    @PreDestroy
+    public void checkpoint() {
+        if (dirtyUserIds.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = new HashSet<>(dirtyUserIds);
+        dirtyUserIds.removeAll(userIds);
+
+        Map<Long, List<SeriesState>> seriesByUser = new HashMap<>();
+        stats.forEach((userId, categoryId, series) -> {
+            if (userIds.contains(userId)) {
+                seriesByUser.computeIfAbsent(userId, id -> new ArrayList<>())
+                        .add(new SeriesState(categoryId, series.mean(), series.variance(), series.samples()));
+            }
+        });
+
+        List<InsightCheckpoint> checkpoints = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserCheckpoint state = new UserCheckpoint(seriesByUser.getOrDefault(userId, List.of()),
+                    recentAnomalies(userId, MAX_RECENT_ANOMALIES));
+            try {
+                checkpoints.add(new InsightCheckpoint(CHECKPOINT_PREFIX + userId,
+                        objectMapper.writeValueAsString(state), Instant.now()));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize anomaly state of user {}: {}", userId, e.getMessage());
+            }
+        }
+        try {
+            insightCheckpointRepository.saveAll(checkpoints);
+        } catch (Exception e) {
+            log.error("Failed to checkpoint spending anomalies: {}", e.getMessage());
+            dirtyUserIds.addAll(userIds);
+        }
+    }
+
+    private void observe(TransactionSnapshot expense) {
+        Stats previous = stats.observe(expense.userId(), expense.categoryId(), expense.amount(), alpha);
+        dirtyUserIds.add(expense.userId());
+        if (previous == null || previous.samples() < minSamples || previous.mean() <= 0) {
+            return;
+        }
+
+        double stdDev = Math.max(previous.stdDev(), previous.mean() * MIN_STD_DEV_SHARE_OF_MEAN);
+        double deviation = (expense.amount() - previous.mean()) / stdDev;
+        if (deviation < deviationThreshold) {
+            return;
+        }
+
+        Deque<SpendingAnomaly> recent = recentByUser.computeIfAbsent(expense.userId(), id -> new ArrayDeque<>());
+        synchronized (recent) {
+            recent.addFirst(new SpendingAnomaly(expense.transactionId(), expense.categoryId(), expense.categoryName(),
+                    expense.description(), expense.date(), expense.amount(), previous.mean(), deviation));
+            while (recent.size() > MAX_RECENT_ANOMALIES) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    private void forget(TransactionSnapshot changed) {
+        Deque<SpendingAnomaly> recent = recentByUser.get(changed.userId());
+        if (recent == null) {
+            return;
+        }
+        synchronized (recent) {
+            if (recent.removeIf(anomaly -> anomaly.transactionId() == changed.transactionId())) {
+                dirtyUserIds.add(changed.userId());
+            }
+        }
+    }
+
+    private static boolean isExpense(TransactionSnapshot snapshot) {
+        return snapshot != null && ETransactionType.TYPE_EXPENSE.name().equals(snapshot.transactionTypeName());
+    }
+}
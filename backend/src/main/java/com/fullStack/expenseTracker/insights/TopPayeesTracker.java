@@ -0,0 +1,187 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.insights.SpaceSavingSketch.Counter;
+import com.fullStack.expenseTracker.models.InsightCheckpoint;
+import com.fullStack.expenseTracker.repository.InsightCheckpointRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-user heavy-hitter summary of where expenses go, keyed by a normalized form of the description.
+ * A user's sketch is seeded on the read path from its last checkpoint, or from their history when there is
+ * none or writes landed while it wasn't loaded; after that each committed write costs one sketch update.
+ * Changed sketches are written back to insight_checkpoint on a fixed delay.
+ */
+@Component
+@Slf4j
+public class TopPayeesTracker {
+
+    private static final String CHECKPOINT_PREFIX = "topPayees:";
+
+    private static final int MAX_PAYEE_TOKENS = 3;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTypeRepository transactionTypeRepository;
+
+    @Autowired
+    private InsightCheckpointRepository insightCheckpointRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.insights.top-payees.capacity:32}")
+    private int capacity;
+
+    private final Map<Long, SpaceSavingSketch> sketches = new ConcurrentHashMap<>();
+
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    private final Set<Long> unseededWrites = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        for (TransactionChange change : event.changes()) {
+            TransactionSnapshot subject = change.after() != null ? change.after() : change.before();
+            SpaceSavingSketch sketch = sketches.get(subject.userId());
+            if (sketch == null) {
+                // the checkpoint no longer covers this write, so the next read seeds from history
+                unseededWrites.add(subject.userId());
+                continue;
+            }
+
+            if (isExpense(change.before())) {
+                sketch.retract(normalize(change.before().description()), change.before().amount());
+            }
+            if (isExpense(change.after())) {
+                sketch.offer(normalize(change.after().description()), change.after().amount());
+            }
+            dirtyUserIds.add(subject.userId());
+        }
+    }
+
+    public List<Counter> topPayees(long userId, String email, int limit) {
+        SpaceSavingSketch sketch = sketches.get(userId);
+        if (sketch == null || unseededWrites.contains(userId)) {
+            sketch = seed(userId, email);
+        }
+        return sketch.top(limit);
+    }
+
+    @Scheduled(fixedDelayString = "${app.insights.top-payees.checkpoint-interval-ms:60000}")
+    @PreDestroy
+    public void checkpoint() {
+        List<InsightCheckpoint> checkpoints = new ArrayList<>();
+        for (Long userId : List.copyOf(dirtyUserIds)) {
+            dirtyUserIds.remove(userId);
+            SpaceSavingSketch sketch = sketches.get(userId);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                checkpoints.add(new InsightCheckpoint(CHECKPOINT_PREFIX + userId,
+                        objectMapper.writeValueAsString(sketch.counters()), Instant.now()));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize top payees of user {}: {}", userId, e.getMessage());
+            }
+        }
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        try {
+            insightCheckpointRepository.saveAll(checkpoints);
+        } catch (Exception e) {
+            log.error("Failed to checkpoint top payees: {}", e.getMessage());
+            checkpoints.forEach(checkpoint -> dirtyUserIds.add(
+                    Long.parseLong(checkpoint.getCheckpointKey().substring(CHECKPOINT_PREFIX.length()))));
+        }
+    }
+
+    static String normalize(String description) {
+        if (description == null) {
+            return "";
+        }
+        StringJoiner payee = new StringJoiner(" ");
+        int tokens = 0;
+        for (String token : description.toLowerCase(Locale.ROOT).split("[^\\p{L}]+")) {
+            if (token.length() > 1) {
+                payee.add(token);
+                if (++tokens == MAX_PAYEE_TOKENS) {
+                    break;
+                }
+            }
+        }
+        return tokens == 0 ? description.trim().toLowerCase(Locale.ROOT) : payee.toString();
+    }
+
+    private SpaceSavingSketch seed(long userId, String email) {
+        if (unseededWrites.remove(userId)) {
+            sketches.remove(userId);
+            return sketches.computeIfAbsent(userId, id -> buildFromHistory(id, email));
+        }
+        return sketches.computeIfAbsent(userId, id -> restore(id).orElseGet(() -> buildFromHistory(id, email)));
+    }
+
+    private Optional<SpaceSavingSketch> restore(long userId) {
+        Optional<InsightCheckpoint> checkpoint = insightCheckpointRepository.findById(CHECKPOINT_PREFIX + userId);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(SpaceSavingSketch.restore(capacity, objectMapper.readValue(
+                    checkpoint.get().getPayload(), new TypeReference<List<Counter>>() {
+                    })));
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable top payees checkpoint of user {}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private SpaceSavingSketch buildFromHistory(long userId, String email) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        Integer expenseTypeId = transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_EXPENSE)
+                .getTransactionTypeId();
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TransactionView> rows = transactionRepository.streamByUser(email)) {
+                rows.filter(row -> expenseTypeId.equals(row.transactionType()))
+                        .forEach(row -> sketch.offer(normalize(row.description()), row.amount()));
+            }
+        });
+        dirtyUserIds.add(userId);
+        return sketch;
+    }
+
+    private static boolean isExpense(TransactionSnapshot snapshot) {
+        return snapshot != null && ETransactionType.TYPE_EXPENSE.name().equals(snapshot.transactionTypeName());
+    }
+}
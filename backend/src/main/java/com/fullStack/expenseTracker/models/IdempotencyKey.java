@@ -0,0 +1,38 @@
+package com.fullStack.expenseTracker.models;
+
+import com.fullStack.expenseTracker.enums.EIdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private EIdempotencyStatus status;
+
+    private Integer responseStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    private LocalDateTime expiresAt;
+
+}
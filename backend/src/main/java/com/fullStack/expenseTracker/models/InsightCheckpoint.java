@@ -0,0 +1,27 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "insight_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InsightCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String checkpointKey;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
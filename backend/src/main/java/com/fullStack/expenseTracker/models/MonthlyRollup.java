@@ -0,0 +1,43 @@
+package com.fullStack.expenseTracker.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "monthly_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_rollup_user_month_category",
+                columnNames = {"user_id", "rollup_year", "rollup_month", "category_id", "transaction_type_id"})
+}, indexes = {
+        @Index(name = "idx_monthly_rollup_month_user", columnList = "rollup_year, rollup_month, user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "rollup_year", nullable = false)
+    private int year;
+
+    @Column(name = "rollup_month", nullable = false)
+    private int month;
+
+    @Column(name = "category_id", nullable = false)
+    private int categoryId;
+
+    @Column(name = "transaction_type_id", nullable = false)
+    private int transactionTypeId;
+
+    private double totalAmount;
+
+    private long transactionCount;
+
+}
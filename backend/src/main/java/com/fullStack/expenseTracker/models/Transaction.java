@@ -9,6 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_transaction_user_date_id", columnList = "user_id, date, transaction_id"),
+        @Index(name = "idx_transaction_user_category_date", columnList = "user_id, category_id, date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,149 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.RollupsRebuiltEvent;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-user cache of computed report payloads. Entries are keyed by owner, report kind and a
+ * qualifier (usually the year and month), and stop being served as soon as a write for that owner commits.
+ * Reports are requested by user id on some endpoints and by email on others, so an owner is tracked
+ * under both and a change event invalidates both.
+ * <p>
+ * Invalidation bumps a generation counter instead of scanning the cache: each entry remembers the
+ * generation it was loaded under and is treated as a miss once that has moved on, leaving LRU and TTL
+ * eviction to reclaim it. Owners share a fixed number of generation stripes, so the counters never grow
+ * with the number of users; a collision only costs the other owner a reload.
+ */
+@Component
+@Slf4j
+public class ReportCache {
+
+    public record CacheKey(String owner, String kind, String qualifier) {
+    }
+
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+        T load() throws E;
+    }
+
+    private static final int GENERATION_STRIPES = 4096;
+
+    public record CacheStats(long hits, long misses, long evictions, long expirations, int size,
+                             long invalidations, long staleWritesSkipped) {
+    }
+
+    private record Entry(Optional<Object> value, long generation, long globalGeneration) {
+    }
+
+    private final BoundedTtlCache<CacheKey, Entry> cache;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final AtomicLong staleWritesSkipped = new AtomicLong();
+
+    public ReportCache(@Value("${app.report.cache.max-entries:20000}") int maxEntries,
+                       @Value("${app.report.cache.ttl-ms:600000}") long ttlMillis) {
+        this.cache = new BoundedTtlCache<>(maxEntries, ttlMillis);
+    }
+
+    public static String ownerOf(Long userId) {
+        return "id:" + userId;
+    }
+
+    public static String ownerOf(String email) {
+        return "email:" + (email == null ? "" : email.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the cached payload or computes and stores it. A value computed while a write for the
+     * same owner committed is returned but not stored, so a stale read can't outlive the invalidation.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T get(String owner, String kind, String qualifier, Loader<T, E> loader) throws E {
+        CacheKey key = new CacheKey(owner, kind, qualifier);
+        int stripe = stripeOf(owner);
+        long global = globalGeneration.get();
+        long generation = generations.get(stripe);
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            if (cached.generation() == generation && cached.globalGeneration() == global) {
+                return (T) cached.value().orElse(null);
+            }
+            cache.remove(key);
+        }
+
+        T value = loader.load();
+        if (global == globalGeneration.get() && generation == generations.get(stripe)) {
+            cache.put(key, new Entry(Optional.ofNullable(value), generation, global));
+        } else {
+            staleWritesSkipped.incrementAndGet();
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Set<String> owners = new HashSet<>();
+        event.affectedUserIds().forEach(userId -> owners.add(ownerOf(userId)));
+        event.affectedEmails().forEach(email -> owners.add(ownerOf(email)));
+        invalidateOwners(owners);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRollupsRebuilt(RollupsRebuiltEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateOwners(Set<String> owners) {
+        if (owners.isEmpty()) {
+            return;
+        }
+        owners.forEach(owner -> generations.incrementAndGet(stripeOf(owner)));
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateUser(Long userId, String email) {
+        invalidateOwners(Set.of(ownerOf(userId), ownerOf(email)));
+    }
+
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        cache.clear();
+        invalidations.incrementAndGet();
+        log.info("Report cache cleared");
+    }
+
+    private static int stripeOf(String owner) {
+        int hash = owner.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    public CacheStats stats() {
+        BoundedTtlCache.Stats stats = cache.stats();
+        return new CacheStats(stats.hits(), stats.misses(), stats.evictions(), stats.expirations(), stats.size(),
+                invalidations.get(), staleWritesSkipped.get());
+    }
+}
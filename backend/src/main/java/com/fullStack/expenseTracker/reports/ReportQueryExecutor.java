@@ -0,0 +1,148 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs independent report queries concurrently on virtual threads. Queries are forked inside a
+ * {@link Scope} and joined together, so a composite report waits for its slowest query rather than the
+ * sum of all of them. Every query has its own deadline, and a failure or timeout cancels its siblings.
+ * A semaphore sized from the connection pool caps how many queries hold a connection at once, so a burst
+ * of fan-outs can't starve the request threads of connections.
+ */
+@Component
+@Slf4j
+public class ReportQueryExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore permits;
+
+    private final long timeoutNanos;
+
+    public ReportQueryExecutor(@Value("${app.report.query.max-concurrency:0}") int maxConcurrency,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                               @Value("${app.report.query.timeout-ms:3000}") long timeoutMillis) {
+        // leave half the pool to request threads unless a cap is configured explicitly
+        this.permits = new Semaphore(maxConcurrency > 0 ? maxConcurrency : Math.max(1, connectionPoolSize / 2), true);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static final class Subtask<T> {
+
+        private final String name;
+
+        private final Future<T> future;
+
+        private final long deadline;
+
+        private Subtask(String name, Future<T> future, long deadline) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Result of the query; only valid after the owning scope has been joined.
+         */
+        public T get() {
+            return future.resultNow();
+        }
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<Subtask<?>> subtasks = new ArrayList<>();
+
+        private Scope() {
+        }
+
+        public <T> Subtask<T> fork(String name, Callable<T> query) {
+            long deadline = System.nanoTime() + timeoutNanos;
+            Future<T> future = executor.submit(() -> {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("No connection slot became free");
+                }
+                try {
+                    return query.call();
+                } finally {
+                    permits.release();
+                }
+            });
+            Subtask<T> subtask = new Subtask<>(name, future, deadline);
+            subtasks.add(subtask);
+            return subtask;
+        }
+
+        /**
+         * Waits for every forked query. The first failure or timeout cancels the queries still running and is
+         * rethrown: unchecked failures as they are, checked ones wrapped in an IllegalStateException.
+         */
+        public void join() throws ReportQueryTimeoutException {
+            for (Subtask<?> subtask : subtasks) {
+                try {
+                    subtask.future.get(Math.max(0, subtask.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | CancellationException e) {
+                    cancelAll();
+                    throw timedOut(subtask);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new IllegalStateException("Interrupted while waiting for report query '" + subtask.name + "'");
+                } catch (ExecutionException e) {
+                    cancelAll();
+                    if (e.getCause() instanceof TimeoutException) {
+                        throw timedOut(subtask);
+                    }
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            subtasks.forEach(subtask -> subtask.future.cancel(true));
+        }
+
+        private ReportQueryTimeoutException timedOut(Subtask<?> subtask) {
+            log.warn("Report query '{}' did not finish within {} ms", subtask.name,
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            return new ReportQueryTimeoutException("Report is taking too long to load, Try again later!");
+        }
+    }
+}
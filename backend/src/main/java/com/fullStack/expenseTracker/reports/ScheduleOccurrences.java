@@ -0,0 +1,57 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Expands a saved transaction's schedule into its occurrence dates within a window, lazily, so a
+ * daily plan over a long horizon never materializes more dates than the caller consumes. Monthly
+ * occurrences are counted from the plan's anchor date so a plan due on the 31st falls on the last day
+ * of shorter months without drifting.
+ */
+public final class ScheduleOccurrences {
+
+    private ScheduleOccurrences() {
+    }
+
+    /**
+     * Occurrence dates within [from, until], inclusive. Occurrences before {@code from} (an overdue
+     * plan) are skipped rather than piled onto the first day.
+     */
+    public static Stream<LocalDate> between(SavedTransaction plan, LocalDate from, LocalDate until) {
+        LocalDate anchor = plan.getUpcomingDate();
+        if (anchor == null || plan.getFrequency() == null || anchor.isAfter(until) || from.isAfter(until)) {
+            return Stream.empty();
+        }
+        if (plan.getFrequency() == ETransactionFrequency.DAILY) {
+            LocalDate first = anchor.isBefore(from) ? from : anchor;
+            return first.datesUntil(until.plusDays(1));
+        }
+        if (plan.getFrequency() == ETransactionFrequency.MONTHLY) {
+            long firstStep = anchor.isBefore(from) ? Math.max(0, ChronoUnit.MONTHS.between(anchor, from) - 1) : 0;
+            return LongStream.iterate(firstStep, step -> step + 1)
+                    .mapToObj(anchor::plusMonths)
+                    .dropWhile(date -> date.isBefore(from))
+                    .takeWhile(date -> !date.isAfter(until));
+        }
+        return anchor.isBefore(from) ? Stream.empty() : Stream.of(anchor);
+    }
+
+    /**
+     * Average amount per day a plan commits to over the long run; zero for one-off plans.
+     */
+    public static double dailyRate(SavedTransaction plan) {
+        if (plan.getFrequency() == ETransactionFrequency.DAILY) {
+            return plan.getAmount();
+        }
+        if (plan.getFrequency() == ETransactionFrequency.MONTHLY) {
+            return plan.getAmount() * 12 / 365.0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.dto.reponses.ForecastCategoryDto;
+import com.fullStack.expenseTracker.dto.reponses.ForecastOccurrenceDto;
+import com.fullStack.expenseTracker.dto.reponses.ForecastResponseDto;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Projects a user's income and expense from the start of the current month to a target date.
+ * Each category's projection is what was already recorded this month, plus the saved transactions
+ * scheduled in the rest of the window, plus a run-rate for unplanned spending: the category's average
+ * daily amount over the previous full months, less the share of it that its recurring plans account for,
+ * so planned payments aren't counted twice.
+ */
+public final class SpendingForecast {
+
+    public static final int RUN_RATE_MONTHS = 3;
+
+    public static final int MAX_UPCOMING = 20;
+
+    private static final int INCOME_TYPE_ID = 2;
+
+    private SpendingForecast() {
+    }
+
+    private static final class CategoryProjection {
+        int transactionTypeId;
+        double actualToDate;
+        double history;
+        double scheduledAmount;
+        double plannedDailyRate;
+    }
+
+    /**
+     * @param rollupRows rows of category id, transaction type id, year, month and total covering the
+     *                   {@link #RUN_RATE_MONTHS} months before {@code today}'s month and that month itself
+     */
+    public static ForecastResponseDto project(LocalDate today, LocalDate until, List<Object[]> rollupRows,
+                                              List<SavedTransaction> plans, Map<Integer, Category> categories) {
+        YearMonth currentMonth = YearMonth.from(today);
+        int currentMonthIndex = currentMonth.getYear() * 12 + currentMonth.getMonthValue();
+        long historyDays = ChronoUnit.DAYS.between(currentMonth.minusMonths(RUN_RATE_MONTHS).atDay(1), currentMonth.atDay(1));
+        long remainingDays = Math.max(0, ChronoUnit.DAYS.between(today, until));
+
+        Map<Integer, CategoryProjection> projections = new TreeMap<>();
+        for (Object[] row : rollupRows) {
+            CategoryProjection projection = projections.computeIfAbsent(((Number) row[0]).intValue(),
+                    k -> new CategoryProjection());
+            projection.transactionTypeId = ((Number) row[1]).intValue();
+            int monthIndex = ((Number) row[2]).intValue() * 12 + ((Number) row[3]).intValue();
+            double total = ((Number) row[4]).doubleValue();
+            if (monthIndex == currentMonthIndex) {
+                projection.actualToDate += total;
+            } else if (monthIndex < currentMonthIndex && monthIndex >= currentMonthIndex - RUN_RATE_MONTHS) {
+                projection.history += total;
+            }
+        }
+
+        List<ForecastOccurrenceDto> upcoming = new ArrayList<>();
+        for (SavedTransaction plan : plans) {
+            CategoryProjection projection = projections.computeIfAbsent(plan.getCategoryId(),
+                    k -> new CategoryProjection());
+            projection.transactionTypeId = plan.getTransactionTypeId();
+            projection.plannedDailyRate += ScheduleOccurrences.dailyRate(plan);
+
+            Category category = categories.get(plan.getCategoryId());
+            Iterator<LocalDate> occurrences = ScheduleOccurrences.between(plan, today, until).iterator();
+            int listed = 0;
+            while (occurrences.hasNext()) {
+                LocalDate date = occurrences.next();
+                projection.scheduledAmount += plan.getAmount();
+                if (listed++ < MAX_UPCOMING) {
+                    upcoming.add(new ForecastOccurrenceDto(date, plan.getPlanId(), plan.getDescription(),
+                            category == null ? null : category.getCategoryName(),
+                            typeName(category),
+                            plan.getAmount()));
+                }
+            }
+        }
+        upcoming.sort(Comparator.comparing(ForecastOccurrenceDto::getDate));
+        if (upcoming.size() > MAX_UPCOMING) {
+            upcoming = new ArrayList<>(upcoming.subList(0, MAX_UPCOMING));
+        }
+
+        double actualIncome = 0;
+        double actualExpense = 0;
+        double projectedIncome = 0;
+        double projectedExpense = 0;
+        List<ForecastCategoryDto> categoryForecasts = new ArrayList<>(projections.size());
+        for (Map.Entry<Integer, CategoryProjection> entry : projections.entrySet()) {
+            CategoryProjection projection = entry.getValue();
+            double unplannedDailyRate = Math.max(0, projection.history / historyDays - projection.plannedDailyRate);
+            double runRateAmount = unplannedDailyRate * remainingDays;
+            double projectedTotal = projection.actualToDate + projection.scheduledAmount + runRateAmount;
+
+            if (projection.transactionTypeId == INCOME_TYPE_ID) {
+                actualIncome += projection.actualToDate;
+                projectedIncome += projectedTotal;
+            } else {
+                actualExpense += projection.actualToDate;
+                projectedExpense += projectedTotal;
+            }
+
+            Category category = categories.get(entry.getKey());
+            categoryForecasts.add(new ForecastCategoryDto(
+                    entry.getKey(),
+                    category == null ? String.valueOf(entry.getKey()) : category.getCategoryName(),
+                    typeName(category),
+                    projection.actualToDate,
+                    projection.scheduledAmount,
+                    runRateAmount,
+                    projectedTotal));
+        }
+        categoryForecasts.sort(Comparator.comparingDouble(ForecastCategoryDto::getProjectedTotal).reversed());
+
+        return new ForecastResponseDto(currentMonth.atDay(1), today, until,
+                actualIncome, actualExpense, projectedIncome, projectedExpense, projectedIncome - projectedExpense,
+                categoryForecasts, upcoming);
+    }
+
+    private static String typeName(Category category) {
+        return category == null ? null : String.valueOf(category.getTransactionType().getTransactionTypeName());
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.enums.EIdempotencyStatus;
+import com.fullStack.expenseTracker.models.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_key (key_hash, request_hash, status, expires_at) " +
+            "VALUES (:keyHash, :requestHash, 'IN_PROGRESS', :expiresAt)", nativeQuery = true)
+    int claim(@Param("keyHash") String keyHash,
+              @Param("requestHash") String requestHash,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyKey k SET k.status = :status, k.responseStatus = :responseStatus, k.responseBody = :responseBody " +
+            "WHERE k.keyHash = :keyHash")
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("status") EIdempotencyStatus status,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.keyHash = :keyHash AND k.status = :status")
+    int deleteByKeyHashAndStatus(@Param("keyHash") String keyHash, @Param("status") EIdempotencyStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.InsightCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InsightCheckpointRepository extends JpaRepository<InsightCheckpoint, String> {
+    List<InsightCheckpoint> findByCheckpointKeyStartingWith(String prefix);
+}
@@ -0,0 +1,56 @@
+package com.fullStack.expenseTracker.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MonthlyRollupJdbcRepository {
+
+    // the type is read from the category row rather than taken from the writer, so a write racing a
+    // category's type change waits on the category row lock and lands under the committed type
+    private static final String UPSERT_SQL =
+            "INSERT INTO monthly_rollup " +
+            "(user_id, rollup_year, rollup_month, category_id, transaction_type_id, total_amount, transaction_count) " +
+            "SELECT ?, ?, ?, c.category_id, c.transaction_type_id, ?, ? FROM category c WHERE c.category_id = ? " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)";
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM monthly_rollup WHERE user_id = ? AND transaction_count <= 0";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public record RollupDelta(long userId, int year, int month, int categoryId, double amount, long count) {
+    }
+
+    public void applyDeltas(Collection<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<RollupDelta> rows = new ArrayList<>(deltas);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (statement, delta) -> {
+            statement.setLong(1, delta.userId());
+            statement.setInt(2, delta.year());
+            statement.setInt(3, delta.month());
+            statement.setDouble(4, delta.amount());
+            statement.setLong(5, delta.count());
+            statement.setInt(6, delta.categoryId());
+        });
+
+        List<Long> shrunkUsers = rows.stream()
+                .filter(delta -> delta.count() < 0)
+                .map(RollupDelta::userId)
+                .distinct()
+                .toList();
+        if (!shrunkUsers.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, shrunkUsers, shrunkUsers.size(),
+                    (statement, userId) -> statement.setLong(1, userId));
+        }
+    }
+}
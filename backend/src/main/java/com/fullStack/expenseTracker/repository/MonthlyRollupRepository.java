@@ -0,0 +1,123 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.models.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    String USER_BY_EMAIL = "(SELECT u.id FROM User u WHERE u.email = :email)";
+
+    @Query("SELECT SUM(r.totalAmount) FROM MonthlyRollup r " +
+            "WHERE r.userId = :userId AND r.transactionTypeId = :transactionTypeId AND r.year = :year AND r.month = :month")
+    Double findTotalByUserAndTransactionType(@Param("userId") long userId,
+                                             @Param("transactionTypeId") int transactionTypeId,
+                                             @Param("year") int year,
+                                             @Param("month") int month);
+
+    @Query("SELECT SUM(r.transactionCount) FROM MonthlyRollup r " +
+            "WHERE r.userId = :userId AND r.year = :year AND r.month = :month")
+    Long findTotalNoOfTransactionsByUser(@Param("userId") long userId,
+                                         @Param("year") int year,
+                                         @Param("month") int month);
+
+    @Query("SELECT SUM(r.totalAmount) FROM MonthlyRollup r " +
+            "WHERE r.userId = " + USER_BY_EMAIL + " AND r.categoryId = :categoryId AND r.year = :year AND r.month = :month")
+    Double findTotalByUserAndCategory(@Param("email") String email,
+                                      @Param("categoryId") int categoryId,
+                                      @Param("year") int year,
+                                      @Param("month") int month);
+
+    @Query("SELECT r.year, r.month, " +
+            "SUM(CASE WHEN r.transactionTypeId = 1 THEN r.totalAmount ELSE 0 END), " +
+            "SUM(CASE WHEN r.transactionTypeId = 2 THEN r.totalAmount ELSE 0 END) " +
+            "FROM MonthlyRollup r " +
+            "WHERE r.userId = " + USER_BY_EMAIL + " AND (r.year * 12 + r.month) >= :fromMonthIndex " +
+            "GROUP BY r.year, r.month ORDER BY r.year, r.month")
+    List<Object[]> findMonthlySummaryByUser(@Param("email") String email, @Param("fromMonthIndex") int fromMonthIndex);
+
+    @Query("SELECT c.categoryName, CAST(tt.transactionTypeName AS String), SUM(r.totalAmount), SUM(r.transactionCount) " +
+            "FROM MonthlyRollup r JOIN Category c ON c.categoryId = r.categoryId JOIN c.transactionType tt " +
+            "WHERE r.userId = " + USER_BY_EMAIL + " AND r.year = :year AND r.month = :month AND r.transactionCount > 0 " +
+            "GROUP BY c.categoryName, tt.transactionTypeName " +
+            "ORDER BY SUM(r.totalAmount) DESC")
+    List<Object[]> findCategoryBreakdownByUserAndMonth(@Param("email") String email,
+                                                       @Param("year") int year,
+                                                       @Param("month") int month);
+
+    @Query("SELECT r.categoryId, r.year, r.month, SUM(r.totalAmount), SUM(r.transactionCount) " +
+            "FROM MonthlyRollup r " +
+            "WHERE r.userId = " + USER_BY_EMAIL + " AND r.transactionCount > 0 " +
+            "AND (r.year * 12 + r.month) BETWEEN :fromMonthIndex AND :toMonthIndex " +
+            "GROUP BY r.categoryId, r.year, r.month")
+    List<Object[]> findCategoryMonthPivotByUser(@Param("email") String email,
+                                                @Param("fromMonthIndex") int fromMonthIndex,
+                                                @Param("toMonthIndex") int toMonthIndex);
+
+    @Query("SELECT r.year, r.month, r.transactionTypeId, c.categoryName, CAST(tt.transactionTypeName AS String), " +
+            "r.totalAmount, r.transactionCount " +
+            "FROM MonthlyRollup r JOIN Category c ON c.categoryId = r.categoryId JOIN c.transactionType tt " +
+            "WHERE r.userId = :userId AND r.transactionCount > 0 " +
+            "AND ((r.year * 12 + r.month) >= :fromMonthIndex OR (r.year * 12 + r.month) = :monthIndex)")
+    List<Object[]> findDashboardRowsByUser(@Param("userId") long userId,
+                                           @Param("fromMonthIndex") int fromMonthIndex,
+                                           @Param("monthIndex") int monthIndex);
+
+    @Query("SELECT r.categoryId, r.transactionTypeId, r.year, r.month, SUM(r.totalAmount) " +
+            "FROM MonthlyRollup r " +
+            "WHERE r.userId = :userId AND r.transactionCount > 0 " +
+            "AND (r.year * 12 + r.month) BETWEEN :fromMonthIndex AND :toMonthIndex " +
+            "GROUP BY r.categoryId, r.transactionTypeId, r.year, r.month")
+    List<Object[]> findCategoryMonthTotalsByUser(@Param("userId") long userId,
+                                                 @Param("fromMonthIndex") int fromMonthIndex,
+                                                 @Param("toMonthIndex") int toMonthIndex);
+
+    @Query("SELECT r.userId, " +
+            "SUM(CASE WHEN r.transactionTypeId = 1 THEN r.totalAmount ELSE 0 END), " +
+            "SUM(CASE WHEN r.transactionTypeId = 2 THEN r.totalAmount ELSE 0 END), " +
+            "SUM(r.transactionCount) " +
+            "FROM MonthlyRollup r " +
+            "WHERE r.userId IN :userIds AND r.year = :year AND r.month = :month " +
+            "GROUP BY r.userId")
+    List<Object[]> findMonthActivityByUsers(@Param("userIds") Collection<Long> userIds,
+                                            @Param("year") int year,
+                                            @Param("month") int month);
+
+    @Modifying
+    @Query(value = "UPDATE monthly_rollup SET transaction_type_id = :transactionTypeId " +
+            "WHERE category_id = :categoryId AND transaction_type_id <> :transactionTypeId", nativeQuery = true)
+    int updateTransactionTypeOfCategory(@Param("categoryId") int categoryId,
+                                        @Param("transactionTypeId") int transactionTypeId);
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_rollup", nativeQuery = true)
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_rollup WHERE user_id = :userId", nativeQuery = true)
+    int deleteRollupsByUser(@Param("userId") long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollup " +
+            "(user_id, rollup_year, rollup_month, category_id, transaction_type_id, total_amount, transaction_count) " +
+            "SELECT t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id", nativeQuery = true)
+    int insertRollupsFromTransactions();
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollup " +
+            "(user_id, rollup_year, rollup_month, category_id, transaction_type_id, total_amount, transaction_count) " +
+            "SELECT t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.user_id = :userId " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id", nativeQuery = true)
+    int insertRollupsFromTransactionsByUser(@Param("userId") long userId);
+}
@@ -0,0 +1,80 @@
+package com.fullStack.expenseTracker.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based writes for the transaction table. Transaction ids use IDENTITY generation,
+ * which makes Hibernate insert row by row, so bulk paths go through plain JDBC batches
+ * instead (rewritten into multi-row inserts by the MySQL driver).
+ */
+@Repository
+public class TransactionJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transaction (user_id, category_id, description, amount, date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE transaction SET user_id = ?, category_id = ?, description = ?, amount = ?, date = ? WHERE transaction_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public record NewTransactionRow(long userId, int categoryId, String description, double amount, LocalDate date) {
+    }
+
+    public record UpdatedTransactionRow(long transactionId, NewTransactionRow values) {
+    }
+
+    public List<Long> batchInsert(List<NewTransactionRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (NewTransactionRow row : rows) {
+                    statement.setLong(1, row.userId());
+                    statement.setInt(2, row.categoryId());
+                    statement.setString(3, row.description());
+                    statement.setDouble(4, row.amount());
+                    statement.setDate(5, Date.valueOf(row.date()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> generatedIds = new ArrayList<>(rows.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generatedIds.add(keys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+        return ids == null ? new ArrayList<>() : ids;
+    }
+
+    public int[] batchUpdate(List<UpdatedTransactionRow> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setLong(1, row.values().userId());
+            statement.setInt(2, row.values().categoryId());
+            statement.setString(3, row.values().description());
+            statement.setDouble(4, row.values().amount());
+            statement.setDate(5, Date.valueOf(row.values().date()));
+            statement.setLong(6, row.transactionId());
+        })[0];
+    }
+}
@@ -1,83 +1,133 @@
 package com.fullStack.expenseTracker.repository;
 
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
 import com.fullStack.expenseTracker.models.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
-            "u.id AS u_id, u.email AS u_email, " +
-            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
-            "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
-            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.email = :email and tt.transaction_type_name LIKE CONCAT('%', :transactionType, '%') and " +
-            "(t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%'))", nativeQuery = true)
-    Page<Transaction> findByUser(@Param("email") String email, Pageable pageable, @Param("searchKey") String searchKey, @Param("transactionType") String transactionType);
+    String TRANSACTION_VIEW_SELECT = "SELECT new com.fullStack.expenseTracker.dto.projections.TransactionView(" +
+            "t.transactionId, c.categoryId, c.categoryName, tt.transactionTypeId, t.description, t.amount, t.date, u.email) ";
+
+    String TRANSACTION_VIEW_FROM = "FROM Transaction t JOIN t.category c JOIN c.transactionType tt JOIN t.user u ";
+
+    String USER_FILTER = "WHERE u.email = :email " +
+            "AND CAST(tt.transactionTypeName AS String) LIKE CONCAT('%', :transactionType, '%') ";
+
+    String SEARCH_KEY_FILTER = "AND (t.description LIKE CONCAT('%', :searchKey, '%') OR c.categoryName LIKE CONCAT('%', :searchKey, '%')) ";
+
+    String ADMIN_SEARCH_FILTER = "WHERE t.description LIKE CONCAT('%', :searchKey, '%') OR c.categoryName LIKE CONCAT('%', :searchKey, '%') OR " +
+            "CAST(tt.transactionTypeName AS String) LIKE CONCAT('%', :searchKey, '%') OR u.email LIKE CONCAT('%', :searchKey, '%') ";
+
+    String SEEK_AFTER = "AND t.date <= :cursorDate AND (t.date < :cursorDate OR t.transactionId < :cursorId) " +
+            "ORDER BY t.date DESC, t.transactionId DESC";
+
+    @Query(value = TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + USER_FILTER + SEARCH_KEY_FILTER,
+            countQuery = "SELECT COUNT(t) " + TRANSACTION_VIEW_FROM + USER_FILTER + SEARCH_KEY_FILTER)
+    Page<TransactionView> findByUser(@Param("email") String email, Pageable pageable, @Param("searchKey") String searchKey, @Param("transactionType") String transactionType);
+
+    @Query(TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + USER_FILTER + SEARCH_KEY_FILTER + SEEK_AFTER)
+    List<TransactionView> findByUserAfter(@Param("email") String email,
+                                          @Param("searchKey") String searchKey,
+                                          @Param("transactionType") String transactionType,
+                                          @Param("cursorDate") LocalDate cursorDate,
+                                          @Param("cursorId") long cursorId,
+                                          Pageable pageable);
+
+    @Query(value = TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + ADMIN_SEARCH_FILTER,
+            countQuery = "SELECT COUNT(t) " + TRANSACTION_VIEW_FROM + ADMIN_SEARCH_FILTER)
+    Page<TransactionView> findAll(Pageable pageable, @Param("searchKey") String searchKey);
+
+    @Query(TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + ADMIN_SEARCH_FILTER)
+    Slice<TransactionView> sliceAll(Pageable pageable, @Param("searchKey") String searchKey);
 
-    @Query(value = "SELECT t.*, c.category_id AS c_category_id, c.category_name AS c_category_name, " +
-            "u.id AS u_id, u.email AS u_email, " +
-            "tt.transaction_type_id AS tt_transaction_type_id, tt.transaction_type_name AS tt_transaction_type_name " +
+    @Query(TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + "WHERE t.transactionId IN :ids")
+    List<TransactionView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(TRANSACTION_VIEW_SELECT + TRANSACTION_VIEW_FROM + "WHERE u.email = :email ORDER BY t.date DESC, t.transactionId DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TransactionView> streamByUser(@Param("email") String email);
+
+    @Query("SELECT new com.fullStack.expenseTracker.events.TransactionSnapshot(" +
+            "t.transactionId, u.id, u.email, c.categoryId, c.categoryName, tt.transactionTypeId, " +
+            "CAST(tt.transactionTypeName AS String), t.description, t.amount, t.date) " +
+            TRANSACTION_VIEW_FROM + "WHERE t.transactionId IN :ids")
+    List<TransactionSnapshot> findSnapshotsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.transactionId IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT t.transaction_id, t.description, c.category_name, u.email, tt.transaction_type_name, t.date, t.amount, c.category_id " +
             "FROM transaction t JOIN category c ON t.category_id = c.category_id JOIN users u ON t.user_id = u.id " +
             "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE t.description LIKE CONCAT('%', :searchKey, '%') OR c.category_name LIKE CONCAT('%', :searchKey, '%') OR " +
-            "tt.transaction_type_name LIKE CONCAT('%', :searchKey, '%') OR u.email LIKE CONCAT('%', :searchKey, '%')", nativeQuery = true)
-    Page<Transaction> findAll(Pageable pageable, @Param("searchKey") String searchKey);
+            "WHERE t.transaction_id > :lastId ORDER BY t.transaction_id", nativeQuery = true)
+    List<Object[]> findSearchDocumentsAfter(@Param("lastId") long lastId, Pageable pageable);
 
+    @Query("SELECT t.date, CAST(tt.transactionTypeName AS String), SUM(t.amount), COUNT(t) " +
+            "FROM Transaction t JOIN t.category c JOIN c.transactionType tt JOIN t.user u " +
+            "WHERE u.email = :email AND t.date >= :fromDate AND t.date < :toDate " +
+            "GROUP BY t.date, tt.transactionTypeName")
+    List<Object[]> findDailyTotalsByUser(@Param("email") String email,
+                                         @Param("fromDate") LocalDate fromDate,
+                                         @Param("toDate") LocalDate toDate);
 
-    @Query(value = "SELECT SUM(amount) FROM `transaction` t " +
-            "JOIN users u ON t.user_id = u.id " +
+    @Query(value = "SELECT t.transaction_id, t.user_id, t.category_id, c.transaction_type_id, t.amount, t.date " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.transaction_id > :lastId ORDER BY t.transaction_id", nativeQuery = true)
+    List<Object[]> findAnalyticsRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    @Query(value = "SELECT t.category_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.date >= :fromDate AND t.date < :toDate " +
+            "AND (:transactionTypeId IS NULL OR c.transaction_type_id = :transactionTypeId) " +
+            "GROUP BY t.category_id", nativeQuery = true)
+    List<Object[]> findCategoryTotalsBetween(@Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate,
+                                             @Param("transactionTypeId") Integer transactionTypeId);
+
+
+    @Query(value = "SELECT SUM(t.amount) FROM transaction t " +
             "JOIN category c ON t.category_id = c.category_id " +
-            "JOIN transaction_type tt ON c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.id = :userId AND tt.transaction_type_id = :transactionTypeId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
+            "WHERE t.user_id = :userId AND c.transaction_type_id = :transactionTypeId " +
+            "AND t.date >= :fromDate AND t.date < :toDate", nativeQuery = true)
     Double findTotalByUserAndTransactionType(@Param("userId") long userId,
                                              @Param("transactionTypeId") Integer transactionTypeId,
-                                             @Param("month") int month,
-                                             @Param("year") int year);
+                                             @Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate);
 
-    @Query(value = "SELECT COUNT(*) FROM `transaction` t JOIN users u ON t.user_id = u.id " +
-            "WHERE u.id = :userId AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
-    Integer findTotalNoOfTransactionsByUser(@Param("userId") long userId, @Param("month") int month, @Param("year") int year);
+    @Query(value = "SELECT COUNT(*) FROM transaction t " +
+            "WHERE t.user_id = :userId AND t.date >= :fromDate AND t.date < :toDate", nativeQuery = true)
+    Integer findTotalNoOfTransactionsByUser(@Param("userId") long userId,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("toDate") LocalDate toDate);
 
-    @Query(value = "SELECT SUM(amount) FROM `transaction` t " +
+    @Query(value = "SELECT SUM(t.amount) FROM transaction t " +
             "JOIN users u ON t.user_id = u.id " +
-            "JOIN category c ON t.category_id = c.category_id " +
-            "WHERE u.email = :email and c.category_id = :categoryId " +
-            "AND MONTH(t.date) = :month AND YEAR(t.date) = :year", nativeQuery = true)
+            "WHERE u.email = :email AND t.category_id = :categoryId " +
+            "AND t.date >= :fromDate AND t.date < :toDate", nativeQuery = true)
     Double findTotalByUserAndCategory(@Param("email") String email,
                                       @Param("categoryId") int categoryId,
-                                      @Param("month") int month,
-                                      @Param("year") int year);
-
-    @Query(value = "SELECT " +
-            "MONTH(t.date), " +
-            "SUM(CASE WHEN tt.transaction_type_id = 1 THEN t.amount ELSE 0 END), " +
-            "SUM(CASE WHEN tt.transaction_type_id = 2 THEN t.amount ELSE 0 END) " +
-            "FROM transaction t " +
-            "JOIN users u on t.user_id = u.id " +
-            "JOIN category c on t.category_id = c.category_id " +
-            "JOIN transaction_type tt on c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.email = :email and t.date >= DATE_SUB(CURRENT_DATE(), INTERVAL 5 MONTH) " +
-            "GROUP BY YEAR(t.date), MONTH(t.date)", nativeQuery = true)
-    List<Object[]> findMonthlySummaryByUser(@Param("email") String email);
-
-    @Query(value = "SELECT c.category_name, tt.transaction_type_name, SUM(t.amount) AS total_amount, COUNT(t.transaction_id) AS total_transactions " +
-            "FROM transaction t " +
-            "JOIN users u on t.user_id = u.id " +
-            "JOIN category c on t.category_id = c.category_id " +
-            "JOIN transaction_type tt on c.transaction_type_id = tt.transaction_type_id " +
-            "WHERE u.email = :email AND YEAR(t.date) = :year AND MONTH(t.date) = :month " +
-            "GROUP BY c.category_name, tt.transaction_type_name " +
-            "ORDER BY total_amount DESC", nativeQuery = true)
-    List<Object[]> findCategoryBreakdownByUserAndMonth(@Param("email") String email,
-                                                       @Param("year") int year,
-                                                       @Param("month") int month);
-}
\ No newline at end of file
+                                      @Param("fromDate") LocalDate fromDate,
+                                      @Param("toDate") LocalDate toDate);
+}
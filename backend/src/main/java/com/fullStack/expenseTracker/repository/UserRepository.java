@@ -1,7 +1,10 @@
 package com.fullStack.expenseTracker.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import com.fullStack.expenseTracker.dto.projections.UserActivityView;
+import com.fullStack.expenseTracker.enums.ERole;
 import com.fullStack.expenseTracker.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +16,19 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    String ADMIN_USERS_FROM = "FROM users u JOIN user_roles ur ON u.id = ur.user_id ";
+
+    String ADMIN_USERS_WHERE = "WHERE ur.role_id = :roleId " +
+            "AND (u.username LIKE CONCAT('%', :keyword, '%') OR u.email LIKE CONCAT('%', :keyword, '%')) ";
+
+    String MONTH_ACTIVITY_JOIN = "LEFT JOIN (SELECT r.user_id, " +
+            "SUM(CASE WHEN r.transaction_type_id = 1 THEN r.total_amount ELSE 0 END) AS expense, " +
+            "SUM(CASE WHEN r.transaction_type_id = 2 THEN r.total_amount ELSE 0 END) AS income, " +
+            "SUM(r.transaction_count) AS transaction_count " +
+            "FROM monthly_rollup r WHERE r.rollup_year = :year AND r.rollup_month = :month " +
+            "GROUP BY r.user_id) a ON a.user_id = u.id ";
+
     Optional<User> findByEmail(String email);
 
     User findByVerificationCode(String verificationCode);
@@ -26,4 +42,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "WHERE ur.role_id = :roleId AND (u.username LIKE CONCAT('%', :keyword, '%') OR u.email LIKE CONCAT('%', :keyword, '%'))", nativeQuery = true)
     Page<User> findAll(Pageable pageable, @Param("roleId") int roleId, @Param("keyword") String keyword);
 
+    @Query(value = "SELECT u.* " + ADMIN_USERS_FROM + ADMIN_USERS_WHERE + "AND u.id > :afterId ORDER BY u.id",
+            nativeQuery = true)
+    List<User> findAllAfter(@Param("roleId") int roleId,
+                            @Param("keyword") String keyword,
+                            @Param("afterId") long afterId,
+                            Pageable pageable);
+
+    @Query("SELECT u.id, u.username, u.email FROM User u JOIN u.roles r " +
+            "WHERE r.name = :role AND u.id > :afterId ORDER BY u.id")
+    List<Object[]> findDirectoryEntriesAfter(@Param("role") ERole role, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.email AS email, u.enabled AS enabled, " +
+            "COALESCE(a.expense, 0) AS expense, COALESCE(a.income, 0) AS income, " +
+            "COALESCE(a.transaction_count, 0) AS noOfTransactions " +
+            ADMIN_USERS_FROM + MONTH_ACTIVITY_JOIN + ADMIN_USERS_WHERE +
+            "ORDER BY CASE WHEN :sortBy = 'activity' THEN COALESCE(a.transaction_count, 0) " +
+            "ELSE COALESCE(a.expense, 0) END DESC, u.id",
+            countQuery = "SELECT COUNT(*) " + ADMIN_USERS_FROM + ADMIN_USERS_WHERE,
+            nativeQuery = true)
+    Page<UserActivityView> findAllByMonthActivity(Pageable pageable,
+                                                  @Param("roleId") int roleId,
+                                                  @Param("keyword") String keyword,
+                                                  @Param("year") int year,
+                                                  @Param("month") int month,
+                                                  @Param("sortBy") String sortBy);
+
 }
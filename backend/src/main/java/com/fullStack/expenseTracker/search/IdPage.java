@@ -0,0 +1,9 @@
+package com.fullStack.expenseTracker.search;
+
+import java.util.List;
+
+/**
+ * One page of ids resolved by an in-process index, in listing order, with the total number of matches.
+ */
+public record IdPage(List<Long> ids, long total) {
+}
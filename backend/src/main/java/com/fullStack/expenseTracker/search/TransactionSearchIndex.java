@@ -0,0 +1,357 @@
+package com.fullStack.expenseTracker.search;
+
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over transaction descriptions and category names.
+ * Query tokens are matched as prefixes of indexed tokens and AND-ed together, so the
+ * search box resolves to a set of transaction ids without a LIKE '%key%' table scan.
+ * The owner email and transaction type name are indexed separately for the admin search.
+ * Each document also keeps its date, amount and type so a listing page can be ordered,
+ * filtered and cut in memory, leaving only that page's ids to be loaded by primary key.
+ * Category renames and type changes re-token every document filed under that category.
+ */
+@Component
+@Slf4j
+public class TransactionSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("date", "amount", "transactionId");
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final ConcurrentSkipListMap<String, Set<Long>> contentPostings = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentSkipListMap<String, Set<Long>> ownerPostings = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Set<Long>> idsByEmail = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Set<Long>> idsByCategory = new ConcurrentHashMap<>();
+
+    private final Map<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+    private List<TransactionsChangedEvent> changesDuringRebuild;
+
+    private List<CategoryChangedEvent> categoryChangesDuringRebuild;
+
+    private volatile boolean ready;
+
+    private record IndexedDocument(String email, int categoryId, Set<String> descriptionTokens,
+                                   Set<String> contentTokens, Set<String> ownerTokens,
+                                   long epochDay, double amount, String transactionTypeName) {
+    }
+
+    private record Match(long transactionId, IndexedDocument document) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        ready = false;
+        synchronized (this) {
+            contentPostings.clear();
+            ownerPostings.clear();
+            idsByEmail.clear();
+            idsByCategory.clear();
+            documents.clear();
+            changesDuringRebuild = new ArrayList<>();
+            categoryChangesDuringRebuild = new ArrayList<>();
+        }
+
+        long lastId = 0;
+        List<Object[]> batch;
+        do {
+            batch = transactionRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                long transactionId = ((Number) row[0]).longValue();
+                index(transactionId, (String) row[1], ((Number) row[7]).intValue(), (String) row[2],
+                        (String) row[3], (String) row[4], toLocalDate(row[5]), ((Number) row[6]).doubleValue());
+                lastId = transactionId;
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        synchronized (this) {
+            // the load may or may not have seen these writes; indexing and removal are idempotent, so replay them
+            for (TransactionsChangedEvent event : changesDuringRebuild) {
+                apply(event);
+            }
+            changesDuringRebuild = null;
+            for (CategoryChangedEvent event : categoryChangesDuringRebuild) {
+                reindexCategory(event.categoryId(), event.categoryName(), event.transactionTypeName());
+            }
+            categoryChangesDuringRebuild = null;
+        }
+        ready = true;
+        log.info("Transaction search index rebuilt with {} documents in {} ms",
+                documents.size(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isSearchable(String searchKey) {
+        return ready && !tokenize(searchKey).isEmpty();
+    }
+
+    public boolean isSortable(String sortField) {
+        return sortField == null || SORTABLE_FIELDS.contains(sortField);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onTransactionsChanged(TransactionsChangedEvent event) {
+        apply(event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    private void apply(TransactionsChangedEvent event) {
+        for (TransactionChange change : event.changes()) {
+            TransactionSnapshot after = change.after();
+            if (after == null) {
+                remove(change.before().transactionId());
+            } else {
+                index(after.transactionId(), after.description(), after.categoryId(), after.categoryName(),
+                        after.userEmail(), after.transactionTypeName(), after.date(), after.amount());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        if (!event.renamed() && !event.transactionTypeChanged()) {
+            return;
+        }
+        reindexCategory(event.categoryId(), event.categoryName(), event.transactionTypeName());
+        if (categoryChangesDuringRebuild != null) {
+            categoryChangesDuringRebuild.add(event);
+        }
+    }
+
+    public synchronized void index(long transactionId, String description, int categoryId, String categoryName,
+                                   String email, String transactionTypeName, LocalDate date, double amount) {
+        String owner = normalizeEmail(email);
+        Set<String> descriptionTokens = tokenize(description);
+        put(transactionId, new IndexedDocument(owner, categoryId, descriptionTokens,
+                contentTokens(descriptionTokens, categoryName), ownerTokens(owner, transactionTypeName),
+                date == null ? 0 : date.toEpochDay(), amount, transactionTypeName == null ? "" : transactionTypeName));
+    }
+
+    synchronized void reindexCategory(int categoryId, String categoryName, String transactionTypeName) {
+        Set<Long> ids = idsByCategory.get(categoryId);
+        if (ids == null) {
+            return;
+        }
+        int reindexed = 0;
+        for (Long transactionId : new ArrayList<>(ids)) {
+            IndexedDocument document = documents.get(transactionId);
+            if (document == null) {
+                continue;
+            }
+            put(transactionId, new IndexedDocument(document.email(), categoryId, document.descriptionTokens(),
+                    contentTokens(document.descriptionTokens(), categoryName),
+                    ownerTokens(document.email(), transactionTypeName),
+                    document.epochDay(), document.amount(), transactionTypeName == null ? "" : transactionTypeName));
+            reindexed++;
+        }
+        log.info("Reindexed {} search documents of category {}", reindexed, categoryId);
+    }
+
+    private void put(long transactionId, IndexedDocument document) {
+        remove(transactionId);
+        documents.put(transactionId, document);
+        document.contentTokens().forEach(token -> contentPostings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(transactionId));
+        document.ownerTokens().forEach(token -> ownerPostings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(transactionId));
+        idsByEmail.computeIfAbsent(document.email(), k -> ConcurrentHashMap.newKeySet()).add(transactionId);
+        idsByCategory.computeIfAbsent(document.categoryId(), k -> ConcurrentHashMap.newKeySet()).add(transactionId);
+    }
+
+    public synchronized void remove(long transactionId) {
+        IndexedDocument document = documents.remove(transactionId);
+        if (document == null) {
+            return;
+        }
+        document.contentTokens().forEach(token -> removePosting(contentPostings, token, transactionId));
+        document.ownerTokens().forEach(token -> removePosting(ownerPostings, token, transactionId));
+        removePosting(idsByEmail, document.email(), transactionId);
+        removePosting(idsByCategory, document.categoryId(), transactionId);
+    }
+
+    public Set<Long> searchByUser(String email, String searchKey) {
+        Set<Long> owned = idsByEmail.getOrDefault(normalizeEmail(email), Collections.emptySet());
+        Set<Long> result = null;
+        for (String token : tokenize(searchKey)) {
+            Set<Long> matches = new HashSet<>();
+            collectPrefixMatches(contentPostings, token, owned, matches);
+            result = intersect(result, matches);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Collections.emptySet() : result;
+    }
+
+    public Set<Long> searchAll(String searchKey) {
+        Set<Long> result = null;
+        for (String token : tokenize(searchKey)) {
+            Set<Long> matches = new HashSet<>();
+            collectPrefixMatches(contentPostings, token, null, matches);
+            collectPrefixMatches(ownerPostings, token, null, matches);
+            result = intersect(result, matches);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Collections.emptySet() : result;
+    }
+
+    public IdPage pageByUser(String email, String searchKey, String transactionType,
+                             String sortField, boolean descending, int offset, int limit) {
+        List<Match> matches = resolve(searchByUser(email, searchKey), transactionType);
+        return new IdPage(top(matches, orderBy(sortField, descending), offset, limit), matches.size());
+    }
+
+    public List<Long> pageByUserAfter(String email, String searchKey, String transactionType,
+                                      LocalDate cursorDate, long cursorId, int limit) {
+        long cursorDay = cursorDate.toEpochDay();
+        List<Match> matches = resolve(searchByUser(email, searchKey), transactionType);
+        matches.removeIf(match -> match.document().epochDay() > cursorDay
+                || (match.document().epochDay() == cursorDay && match.transactionId() >= cursorId));
+        return top(matches, orderBy("date", true), 0, limit);
+    }
+
+    public IdPage pageAll(String searchKey, int offset, int limit) {
+        List<Match> matches = resolve(searchAll(searchKey), null);
+        return new IdPage(top(matches, orderBy("transactionId", true), offset, limit), matches.size());
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private List<Match> resolve(Set<Long> ids, String transactionType) {
+        String typeFilter = transactionType == null ? "" : transactionType.toLowerCase(Locale.ROOT);
+        List<Match> matches = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            IndexedDocument document = documents.get(id);
+            if (document != null && document.transactionTypeName().toLowerCase(Locale.ROOT).contains(typeFilter)) {
+                matches.add(new Match(id, document));
+            }
+        }
+        return matches;
+    }
+
+    private static Comparator<Match> orderBy(String sortField, boolean descending) {
+        Comparator<Match> order = switch (sortField == null ? "date" : sortField) {
+            case "amount" -> Comparator.comparingDouble(match -> match.document().amount());
+            case "transactionId" -> Comparator.comparingLong(Match::transactionId);
+            default -> Comparator.comparingLong(match -> match.document().epochDay());
+        };
+        order = order.thenComparingLong(Match::transactionId);
+        return descending ? order.reversed() : order;
+    }
+
+    private static List<Long> top(List<Match> matches, Comparator<Match> order, int offset, int limit) {
+        if (offset >= matches.size() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        int keep = (int) Math.min((long) offset + limit, matches.size());
+        PriorityQueue<Match> heap = new PriorityQueue<>(keep + 1, order.reversed());
+        for (Match match : matches) {
+            heap.add(match);
+            if (heap.size() > keep) {
+                heap.poll();
+            }
+        }
+        List<Match> kept = new ArrayList<>(heap);
+        kept.sort(order);
+        List<Long> ids = new ArrayList<>(keep - offset);
+        for (Match match : kept.subList(offset, kept.size())) {
+            ids.add(match.transactionId());
+        }
+        return ids;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static Set<String> contentTokens(Set<String> descriptionTokens, String categoryName) {
+        Set<String> tokens = new LinkedHashSet<>(descriptionTokens);
+        tokens.addAll(tokenize(categoryName));
+        return tokens;
+    }
+
+    private static Set<String> ownerTokens(String email, String transactionTypeName) {
+        Set<String> tokens = tokenize(email);
+        tokens.addAll(tokenize(transactionTypeName));
+        return tokens;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    private static void collectPrefixMatches(NavigableMap<String, Set<Long>> postings, String prefix,
+                                             Set<Long> restrictTo, Set<Long> into) {
+        for (Set<Long> ids : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (restrictTo == null) {
+                into.addAll(ids);
+                continue;
+            }
+            Set<Long> smaller = ids.size() < restrictTo.size() ? ids : restrictTo;
+            Set<Long> larger = smaller == ids ? restrictTo : ids;
+            for (Long id : smaller) {
+                if (larger.contains(id)) {
+                    into.add(id);
+                }
+            }
+        }
+    }
+
+    private static Set<Long> intersect(Set<Long> current, Set<Long> matches) {
+        if (current == null) {
+            return matches;
+        }
+        current.retainAll(matches);
+        return current;
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> postings, K key, long transactionId) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(transactionId);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.fullStack.expenseTracker.search;
+
+import com.fullStack.expenseTracker.enums.ERole;
+import com.fullStack.expenseTracker.events.UserRegisteredEvent;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+
+/**
+ * In-process directory of the users shown on the admin screen, answering the same case-insensitive
+ * substring match on username or email as the LIKE '%key%' query, in ascending id order from any
+ * keyset position. Keys of three or more characters are resolved through trigram posting lists kept
+ * as sorted id arrays, and each candidate is checked against the full strings; shorter keys walk the
+ * directory in id order, which stops as soon as a page is filled because such keys match most users.
+ * Offset pages count every match in the same walk that collects the page, and the count is cached per
+ * key until the directory changes, so later pages of the same search stop once they are filled.
+ */
+@Component
+@Slf4j
+public class UserDirectoryIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int MAX_CACHED_COUNTS = 256;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final NavigableMap<Long, Entry> entries = new TreeMap<>();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final Map<String, Long> countsByKey = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_CACHED_COUNTS;
+        }
+    };
+
+    private volatile boolean ready;
+
+    private record Entry(String username, String email) {
+
+        boolean matches(String key) {
+            return username.contains(key) || email.contains(key);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        ready = false;
+        synchronized (this) {
+            entries.clear();
+            postings.clear();
+            countsByKey.clear();
+        }
+
+        long lastId = 0;
+        List<Object[]> batch;
+        do {
+            batch = userRepository.findDirectoryEntriesAfter(ERole.ROLE_USER, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                long userId = ((Number) row[0]).longValue();
+                index(userId, (String) row[1], (String) row[2]);
+                lastId = userId;
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("User directory index rebuilt with {} users and {} trigrams in {} ms",
+                entries.size(), postings.size(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        if (event.roles().contains(ERole.ROLE_USER)) {
+            index(event.userId(), event.username(), event.email());
+        }
+    }
+
+    public synchronized void index(long userId, String username, String email) {
+        remove(userId);
+        countsByKey.clear();
+        Entry entry = new Entry(normalize(username), normalize(email));
+        entries.put(userId, entry);
+        for (String gram : gramsOf(entry)) {
+            postings.computeIfAbsent(gram, k -> new PostingList()).add(userId);
+        }
+    }
+
+    public synchronized void remove(long userId) {
+        Entry entry = entries.remove(userId);
+        if (entry == null) {
+            return;
+        }
+        countsByKey.clear();
+        for (String gram : gramsOf(entry)) {
+            PostingList ids = postings.get(gram);
+            if (ids != null && ids.remove(userId) && ids.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} users matching {@code searchKey}, ascending, all greater than {@code afterId}.
+     */
+    public synchronized List<Long> searchAfter(String searchKey, long afterId, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        if (limit > 0) {
+            forEachMatch(normalize(searchKey), afterId, userId -> {
+                ids.add(userId);
+                return ids.size() < limit;
+            });
+        }
+        return ids;
+    }
+
+    /**
+     * Ids of the users at positions {@code offset} to {@code offset + limit} of the matches, ascending, with the
+     * total number of matches. Only the page is materialized; the total comes from the same walk or the cache.
+     */
+    public synchronized IdPage page(String searchKey, int offset, int limit) {
+        String key = normalize(searchKey);
+        Long cachedTotal = key.isEmpty() ? Long.valueOf(entries.size()) : countsByKey.get(key);
+        List<Long> ids = new ArrayList<>(Math.min(Math.max(limit, 0), 1024));
+        long[] seen = new long[1];
+        forEachMatch(key, 0, userId -> {
+            if (seen[0]++ >= offset && ids.size() < limit) {
+                ids.add(userId);
+            }
+            return cachedTotal == null || seen[0] < (long) offset + limit;
+        });
+        if (cachedTotal != null) {
+            return new IdPage(ids, cachedTotal);
+        }
+        countsByKey.put(key, seen[0]);
+        return new IdPage(ids, seen[0]);
+    }
+
+    /**
+     * Visits the ids of users matching an already normalized key in ascending order after {@code afterId},
+     * until the visitor returns false.
+     */
+    private void forEachMatch(String key, long afterId, LongPredicate visitor) {
+        if (key.length() < GRAM_LENGTH) {
+            for (Map.Entry<Long, Entry> entry : entries.tailMap(afterId, false).entrySet()) {
+                if (entry.getValue().matches(key) && !visitor.test(entry.getKey())) {
+                    return;
+                }
+            }
+            return;
+        }
+
+        PostingList[] lists = postingsOf(key);
+        if (lists == null) {
+            return;
+        }
+        PostingList smallest = lists[0];
+        for (int i = smallest.indexAfter(afterId); i < smallest.size; i++) {
+            long userId = smallest.ids[i];
+            if (isCandidate(lists, userId) && entries.get(userId).matches(key) && !visitor.test(userId)) {
+                return;
+            }
+        }
+    }
+
+    static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Set<String> gramsOf(Entry entry) {
+        Set<String> grams = gramsOf(entry.username());
+        grams.addAll(gramsOf(entry.email()));
+        return grams;
+    }
+
+    /**
+     * Posting lists of every trigram of the key, smallest first, or null when one of them is missing.
+     */
+    private PostingList[] postingsOf(String key) {
+        Set<String> grams = gramsOf(key);
+        PostingList[] lists = new PostingList[grams.size()];
+        int n = 0;
+        for (String gram : grams) {
+            PostingList ids = postings.get(gram);
+            if (ids == null) {
+                return null;
+            }
+            lists[n++] = ids;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    private static boolean isCandidate(PostingList[] lists, long userId) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(userId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sorted, growable array of user ids. New users get the highest id so far, which makes the common
+     * insert an append.
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+
+        private int size;
+
+        void add(long userId) {
+            int at = size;
+            if (size > 0 && ids[size - 1] >= userId) {
+                at = Arrays.binarySearch(ids, 0, size, userId);
+                if (at >= 0) {
+                    return;
+                }
+                at = -at - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = userId;
+            size++;
+        }
+
+        boolean remove(long userId) {
+            int at = Arrays.binarySearch(ids, 0, size, userId);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long userId) {
+            return Arrays.binarySearch(ids, 0, size, userId) >= 0;
+        }
+
+        int indexAfter(long userId) {
+            int at = Arrays.binarySearch(ids, 0, size, userId);
+            return at >= 0 ? at + 1 : -at - 1;
+        }
+    }
+}
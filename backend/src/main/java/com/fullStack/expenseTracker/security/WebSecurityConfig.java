@@ -1,5 +1,6 @@
 package com.fullStack.expenseTracker.security;
 
+import com.fullStack.expenseTracker.idempotency.IdempotencyInterceptor;
 import com.fullStack.expenseTracker.security.jwt.AuthEntryPointJwt;
 import com.fullStack.expenseTracker.security.jwt.AuthTokenFilter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,7 +59,7 @@ public class WebSecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", IdempotencyInterceptor.REPLAYED_HEADER));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -10,6 +10,9 @@ import com.fullStack.expenseTracker.models.Category;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Service
 public interface CategoryService {
 
@@ -19,6 +22,8 @@ public interface CategoryService {
 
     Category getCategoryById(int id) throws CategoryNotFoundException;
 
+    Map<Integer, Category> getCategoriesByIds(Collection<Integer> ids);
+
     ResponseEntity<ApiResponseDto<?>> addNewCategory(CategoryRequestDto categoryRequestDto)
             throws TransactionTypeNotFoundException, CategoryServiceLogicException, CategoryAlreadyExistsException;
 
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.idempotency.StoredResponse;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface IdempotencyService {
+
+    StoredResponse begin(String scopedKey, String requestHash);
+
+    void complete(String scopedKey, String requestHash, int status, String body);
+
+    void release(String scopedKey);
+
+}
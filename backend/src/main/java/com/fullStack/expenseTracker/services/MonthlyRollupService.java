@@ -0,0 +1,13 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface MonthlyRollupService {
+
+    ResponseEntity<ApiResponseDto<?>> rebuildRollups(Long userId) throws TransactionServiceLogicException;
+
+}
@@ -1,9 +1,16 @@
 package com.fullStack.expenseTracker.services;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.ReportNotReadyException;
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 @Service
 public interface ReportService {
     ResponseEntity<ApiResponseDto<?>> getTotalByTransactionTypeAndUser(Long userId, int transactionTypeId, int month, int year);
@@ -16,4 +23,33 @@ public interface ReportService {
 
     ResponseEntity<ApiResponseDto<?>> getCategoryBreakdownByUserAndMonth(String email, int year, int month);
 
+    ResponseEntity<ApiResponseDto<?>> getDashboard(String email, int year, int month)
+            throws UserNotFoundException, UserServiceLogicException, ReportQueryTimeoutException, TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getTimeSeries(String email, LocalDate from, LocalDate to, String bucket)
+            throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getCategoryMonthPivot(String email, String from, String to)
+            throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getCalendar(String email, int year, int month)
+            throws TransactionServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getForecast(String email, LocalDate until)
+            throws UserNotFoundException, UserServiceLogicException, TransactionServiceLogicException,
+            ReportQueryTimeoutException;
+
+    ResponseEntity<ApiResponseDto<?>> getTopPayees(String email, int limit) throws UserNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> getRollingTotals(String email) throws UserNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> getSpendingAnomalies(String email, int limit) throws UserNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> getCategoryPercentiles(String from, String to, Integer categoryId)
+            throws TransactionServiceLogicException, ReportNotReadyException;
+
+    ResponseEntity<ApiResponseDto<?>> getPlatformCategoryTotals(LocalDate from, LocalDate to, Integer transactionTypeId);
+
+    ResponseEntity<ApiResponseDto<?>> getReportCacheStats();
+
 }
@@ -0,0 +1,37 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically refreshed total of all transactions, shown to admins as "~N" in slice mode so
+ * browsing does not pay for a COUNT(*) on every page view.
+ */
+@Component
+@Slf4j
+public class TransactionCountEstimator {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final AtomicLong estimate = new AtomicLong(-1);
+
+    @Scheduled(fixedDelayString = "${app.transaction.count-estimate.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            estimate.set(transactionRepository.count());
+        } catch (Exception e) {
+            log.warn("Failed to refresh transaction count estimate: {}", e.getMessage());
+        }
+    }
+
+    public String approximateTotal() {
+        long current = estimate.get();
+        return current < 0 ? null : "~" + current;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+public interface TransactionExportService {
+
+    ResponseEntity<StreamingResponseBody> exportTransactions(String email, String format)
+            throws UserNotFoundException, TransactionServiceLogicException;
+
+}
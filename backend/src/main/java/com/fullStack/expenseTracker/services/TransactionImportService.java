@@ -0,0 +1,17 @@
+package com.fullStack.expenseTracker.services;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public interface TransactionImportService {
+
+    ResponseEntity<ApiResponseDto<?>> importTransactions(String email, MultipartFile file, String format,
+                                                         Integer expenseCategoryId, Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException;
+
+}
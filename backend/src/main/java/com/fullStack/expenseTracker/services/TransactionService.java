@@ -1,9 +1,11 @@
 package com.fullStack.expenseTracker.services;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
+import com.fullStack.expenseTracker.exceptions.TransactionQueueFullException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +16,7 @@ public interface TransactionService {
 
 
     ResponseEntity<ApiResponseDto<?>> addTransaction(TransactionRequestDto transactionRequestDto)
-            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException;
+            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException, TransactionQueueFullException;
 
     ResponseEntity<ApiResponseDto<?>> getTransactionById(Long TransactionId)
             throws TransactionNotFoundException;
@@ -24,8 +26,14 @@ public interface TransactionService {
 
     ResponseEntity<ApiResponseDto<?>> deleteTransaction(Long transactionId) throws TransactionNotFoundException, TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> processTransactionBatch(TransactionBatchRequestDto transactionBatchRequestDto) throws TransactionServiceLogicException;
+
     ResponseEntity<ApiResponseDto<?>> getAllTransactions(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> getAllTransactionsSlice(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException;
+
     ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(String email, int pageNumber, int pageSize, String searchKey, String sortField, String sortDirec, String transactionType) throws UserNotFoundException, TransactionServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> getTransactionsByUserAfter(String email, String cursor, int pageSize, String searchKey, String transactionType) throws TransactionServiceLogicException;
+
 }
@@ -18,7 +18,9 @@ public interface UserService {
 
     User findByEmail(String email) throws UserNotFoundException;
 
-    ResponseEntity<ApiResponseDto<?>> getAllUsers(int pageNumber, int pageSize, String searchKey) throws RoleNotFoundException, UserServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getAllUsers(int pageNumber, int pageSize, String searchKey, String sortBy) throws RoleNotFoundException, UserServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getUsersAfter(long afterId, int pageSize, String searchKey) throws RoleNotFoundException, UserServiceLogicException;
 
     ResponseEntity<ApiResponseDto<?>> enableOrDisableUser(long userId) throws UserNotFoundException, UserServiceLogicException;
 
@@ -2,6 +2,7 @@ package com.fullStack.expenseTracker.services.impls;
 
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.events.UserRegisteredEvent;
 import com.fullStack.expenseTracker.dto.requests.ResetPasswordRequestDto;
 import com.fullStack.expenseTracker.dto.requests.SignUpRequestDto;
 import com.fullStack.expenseTracker.exceptions.*;
@@ -15,6 +16,7 @@ import com.fullStack.expenseTracker.services.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -44,6 +46,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Value("${app.verification-code-expiration-ms}")
     private long EXPIRY_PERIOD;
 
@@ -60,6 +65,7 @@ public class AuthServiceImpl implements AuthService {
         try {
             User user = createUser(signUpRequestDto);
             userRepository.save(user);
+            eventPublisher.publishEvent(UserRegisteredEvent.of(user));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                     ApiResponseStatus.SUCCESS, HttpStatus.CREATED,"User account has been successfully created!"
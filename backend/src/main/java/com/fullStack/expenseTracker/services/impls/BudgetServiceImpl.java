@@ -6,6 +6,7 @@ import com.fullStack.expenseTracker.dto.requests.BudgetRequest;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.reports.ReportCache;
 import com.fullStack.expenseTracker.repository.BudgetRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.BudgetService;
@@ -27,6 +28,9 @@ public class BudgetServiceImpl implements BudgetService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReportCache reportCache;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> createBudget(BudgetRequest budgetRequest) throws UserNotFoundException, UserServiceLogicException {
         if (!userRepository.existsById(budgetRequest.getUserId())) {
@@ -44,6 +48,8 @@ public class BudgetServiceImpl implements BudgetService {
             }
 
             budgetRepository.save(budget);
+            userRepository.findById(budgetRequest.getUserId())
+                    .ifPresent(user -> reportCache.invalidateUser(user.getId(), user.getEmail()));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponseDto<>(
                     ApiResponseStatus.SUCCESS,
@@ -9,13 +9,20 @@ import com.fullStack.expenseTracker.exceptions.CategoryAlreadyExistsException;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.CategoryServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.TransactionTypeNotFoundException;
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
 import com.fullStack.expenseTracker.models.Category;
 import com.fullStack.expenseTracker.repository.CategoryRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 @Slf4j
@@ -26,6 +33,9 @@ public class CategoryServiceImpl implements CategoryService {
     @Autowired
     private TransactionTypeService transactionTypeService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getCategories() {
         return ResponseEntity.ok(
@@ -48,6 +58,15 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new CategoryNotFoundException("Category not found with id" + id));
     }
 
+    @Override
+    public Map<Integer, Category> getCategoriesByIds(Collection<Integer> ids) {
+        Map<Integer, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAllById(ids)) {
+            categories.put(category.getCategoryId(), category);
+        }
+        return categories;
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> addNewCategory(CategoryRequestDto categoryRequestDto)
             throws TransactionTypeNotFoundException, CategoryServiceLogicException, CategoryAlreadyExistsException {
@@ -81,16 +100,20 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateCategory(int categoryId, CategoryRequestDto categoryRequestDto)
             throws CategoryNotFoundException, TransactionTypeNotFoundException, CategoryServiceLogicException {
 
         Category category = getCategoryById(categoryId);
+        String previousName = category.getCategoryName();
+        int previousTransactionTypeId = category.getTransactionType().getTransactionTypeId();
 
         category.setCategoryName(categoryRequestDto.getCategoryName());
         category.setTransactionType(transactionTypeService.getTransactionById(categoryRequestDto.getTransactionTypeId()));
 
         try {
             categoryRepository.save(category);
+            eventPublisher.publishEvent(CategoryChangedEvent.of(previousName, previousTransactionTypeId, category));
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -0,0 +1,134 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.enums.EIdempotencyStatus;
+import com.fullStack.expenseTracker.idempotency.StoredResponse;
+import com.fullStack.expenseTracker.models.IdempotencyKey;
+import com.fullStack.expenseTracker.repository.IdempotencyKeyRepository;
+import com.fullStack.expenseTracker.services.IdempotencyService;
+import com.fullStack.expenseTracker.utils.BoundedTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+@Component
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Value("${app.idempotency.store:memory}")
+    private String store;
+
+    @Value("${app.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    private BoundedTtlCache<String, StoredResponse> responses;
+
+    private boolean useDatabase;
+
+    @PostConstruct
+    void init() {
+        responses = new BoundedTtlCache<>(maxEntries, ttlMs);
+        useDatabase = "database".equalsIgnoreCase(store);
+    }
+
+    @Override
+    public StoredResponse begin(String scopedKey, String requestHash) {
+        String keyHash = hash(scopedKey);
+        StoredResponse existing = responses.putIfAbsent(keyHash, StoredResponse.inProgress(requestHash));
+        if (existing != null || !useDatabase) {
+            return existing;
+        }
+
+        try {
+            idempotencyKeyRepository.claim(keyHash, requestHash, LocalDateTime.now().plus(Duration.ofMillis(ttlMs)));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            IdempotencyKey claimed = idempotencyKeyRepository.findById(keyHash).orElse(null);
+            if (claimed != null && claimed.getExpiresAt().isAfter(LocalDateTime.now())) {
+                if (claimed.getStatus() == EIdempotencyStatus.COMPLETED) {
+                    StoredResponse stored = new StoredResponse(true, claimed.getResponseStatus(),
+                            claimed.getResponseBody(), claimed.getRequestHash());
+                    responses.put(keyHash, stored);
+                    return stored;
+                }
+                responses.remove(keyHash);
+                return StoredResponse.inProgress(claimed.getRequestHash());
+            }
+        }
+
+        try {
+            idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+            idempotencyKeyRepository.claim(keyHash, requestHash, LocalDateTime.now().plus(Duration.ofMillis(ttlMs)));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            responses.remove(keyHash);
+            return StoredResponse.inProgress(null);
+        }
+    }
+
+    @Override
+    public void complete(String scopedKey, String requestHash, int status, String body) {
+        String keyHash = hash(scopedKey);
+        responses.put(keyHash, new StoredResponse(true, status, body, requestHash));
+        if (useDatabase) {
+            try {
+                idempotencyKeyRepository.complete(keyHash, EIdempotencyStatus.COMPLETED, status, body);
+            } catch (Exception e) {
+                log.error("Failed to persist idempotent response: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void release(String scopedKey) {
+        String keyHash = hash(scopedKey);
+        responses.remove(keyHash);
+        if (useDatabase) {
+            try {
+                idempotencyKeyRepository.deleteByKeyHashAndStatus(keyHash, EIdempotencyStatus.IN_PROGRESS);
+            } catch (Exception e) {
+                log.error("Failed to release idempotency key: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!useDatabase) {
+            return;
+        }
+        try {
+            int purged = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge expired idempotency keys: {}", e.getMessage());
+        }
+    }
+
+    private String hash(String scopedKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(scopedKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.RollupsRebuiltEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.repository.MonthlyRollupJdbcRepository;
+import com.fullStack.expenseTracker.repository.MonthlyRollupJdbcRepository.RollupDelta;
+import com.fullStack.expenseTracker.repository.MonthlyRollupRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.MonthlyRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class MonthlyRollupServiceImpl implements MonthlyRollupService {
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private MonthlyRollupJdbcRepository monthlyRollupJdbcRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private record RollupKey(long userId, int year, int month, int categoryId) {
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Map<RollupKey, double[]> deltas = new LinkedHashMap<>();
+        for (TransactionChange change : event.changes()) {
+            accumulate(deltas, change.before(), -1);
+            accumulate(deltas, change.after(), 1);
+        }
+
+        monthlyRollupJdbcRepository.applyDeltas(deltas.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .map(entry -> new RollupDelta(
+                        entry.getKey().userId(),
+                        entry.getKey().year(),
+                        entry.getKey().month(),
+                        entry.getKey().categoryId(),
+                        entry.getValue()[0],
+                        (long) entry.getValue()[1]))
+                .toList());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.transactionTypeChanged()) {
+            int rows = monthlyRollupRepository.updateTransactionTypeOfCategory(event.categoryId(), event.transactionTypeId());
+            log.info("Moved {} monthly rollup rows of category {} to transaction type {}",
+                    rows, event.categoryId(), event.transactionTypeId());
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> rebuildRollups(Long userId) throws TransactionServiceLogicException {
+        try {
+            int rows = rebuild(userId);
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            "Monthly rollups have been rebuilt with " + rows + " rows!"
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Failed to rebuild monthly rollups: {}", e.getMessage());
+            throw new TransactionServiceLogicException("Failed to rebuild monthly rollups, Try again later!");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (monthlyRollupRepository.count() == 0 && transactionRepository.count() > 0) {
+                log.info("Monthly rollup table is empty, rebuilding from {} transactions", transactionRepository.count());
+                rebuild(null);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill monthly rollups: {}", e.getMessage());
+        }
+    }
+
+    private int rebuild(Long userId) {
+        Integer rows = transactionTemplate.execute(status -> {
+            int inserted;
+            if (userId == null) {
+                monthlyRollupRepository.deleteAllRollups();
+                inserted = monthlyRollupRepository.insertRollupsFromTransactions();
+            } else {
+                monthlyRollupRepository.deleteRollupsByUser(userId);
+                inserted = monthlyRollupRepository.insertRollupsFromTransactionsByUser(userId);
+            }
+            eventPublisher.publishEvent(new RollupsRebuiltEvent(userId));
+            return inserted;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private void accumulate(Map<RollupKey, double[]> deltas, TransactionSnapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        RollupKey key = new RollupKey(
+                snapshot.userId(),
+                snapshot.date().getYear(),
+                snapshot.date().getMonthValue(),
+                snapshot.categoryId());
+        double[] delta = deltas.computeIfAbsent(key, k -> new double[2]);
+        delta[0] += sign * snapshot.amount();
+        delta[1] += sign;
+    }
+}
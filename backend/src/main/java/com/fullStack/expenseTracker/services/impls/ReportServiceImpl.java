@@ -1,41 +1,140 @@
 package com.fullStack.expenseTracker.services.impls;
 
+import com.fullStack.expenseTracker.analytics.TDigest;
+import com.fullStack.expenseTracker.analytics.TransactionColumnStore;
+import com.fullStack.expenseTracker.analytics.TransactionColumnStore.CategoryTotal;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CalendarDayDto;
+import com.fullStack.expenseTracker.dto.reponses.CalendarResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CategoryBreakdownDto;
+import com.fullStack.expenseTracker.dto.reponses.CategoryPercentileDto;
+import com.fullStack.expenseTracker.dto.reponses.DashboardResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ForecastResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.PivotCategoryDto;
+import com.fullStack.expenseTracker.dto.reponses.PivotResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.RollingTotalsResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.RollingWindowDto;
+import com.fullStack.expenseTracker.dto.reponses.SavedTransactionResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.SpendingAnomalyDto;
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesPointDto;
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TopPayeeDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.EReportBucket;
+import com.fullStack.expenseTracker.enums.ETransactionType;
 import com.fullStack.expenseTracker.dto.reponses.TransactionsMonthlySummaryDto;
+import com.fullStack.expenseTracker.exceptions.ReportNotReadyException;
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
+import com.fullStack.expenseTracker.insights.RollingSpendTracker;
+import com.fullStack.expenseTracker.insights.SpendingAnomalyDetector;
+import com.fullStack.expenseTracker.insights.TopPayeesTracker;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.reports.ReportCache;
+import com.fullStack.expenseTracker.reports.ReportQueryExecutor;
+import com.fullStack.expenseTracker.reports.SpendingForecast;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.MonthlyRollupRepository;
+import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
 import com.fullStack.expenseTracker.services.ReportService;
+import com.fullStack.expenseTracker.services.SavedTransactionService;
+import com.fullStack.expenseTracker.utils.MonthRange;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 
 @Component
 @Slf4j
 public class ReportServiceImpl implements ReportService {
 
+    private static final int SUMMARY_MONTHS = 6;
+
+    private static final int EXPENSE_TYPE_ID = 1;
+
+    private static final int INCOME_TYPE_ID = 2;
+
+    private static final int MAX_TIME_SERIES_POINTS = 1000;
+
+    private static final int PIVOT_DEFAULT_MONTHS = 12;
+
+    private static final int PIVOT_MAX_MONTHS = 120;
+
+    private static final int MAX_FORECAST_DAYS = 366;
+
+    @Autowired
+    MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private ReportCache reportCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private SavedTransactionService savedTransactionService;
+
+    @Autowired
+    private ReportQueryExecutor reportQueryExecutor;
+
+    @Autowired
+    private TransactionColumnStore transactionColumnStore;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     @Autowired
-    TransactionRepository transactionRepository;
+    private TopPayeesTracker topPayeesTracker;
+
+    @Autowired
+    private SpendingAnomalyDetector spendingAnomalyDetector;
+
+    @Autowired
+    private RollingSpendTracker rollingSpendTracker;
+
+    @Autowired
+    private SavedTransactionRepository savedTransactionRepository;
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalByTransactionTypeAndUser(Long userId, int transactionTypeId, int month, int year) {
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, month, year)
+                        reportCache.get(ReportCache.ownerOf(userId), "totalByType", year + "-" + month + ":" + transactionTypeId,
+                                () -> monthlyRollupRepository.findTotalByUserAndTransactionType(userId, transactionTypeId, year, month))
                 )
         );
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTotalNoOfTransactionsByUser(Long userId,  int month, int year) {
+        Long total = reportCache.get(ReportCache.ownerOf(userId), "transactionCount", year + "-" + month,
+                () -> monthlyRollupRepository.findTotalNoOfTransactionsByUser(userId, year, month));
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalNoOfTransactionsByUser(userId, month, year)
+                        total == null ? 0 : total
                 )
         );
     }
@@ -45,21 +144,24 @@ public class ReportServiceImpl implements ReportService {
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
-                        transactionRepository.findTotalByUserAndCategory(email, categoryId, month, year)
+                        reportCache.get(ReportCache.ownerOf(email), "totalByCategory", year + "-" + month + ":" + categoryId,
+                                () -> monthlyRollupRepository.findTotalByUserAndCategory(email, categoryId, year, month))
                 )
         );
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getMonthlySummaryByUser(String email) {
-        List<Object[]> result = transactionRepository.findMonthlySummaryByUser(email);
-
-        List<TransactionsMonthlySummaryDto> transactionsMonthlySummary = result.stream()
-                .map(data -> new TransactionsMonthlySummaryDto(
-                        (int) data[0],
-                        (double) data[1],
-                        (double) data[2]
-                )).toList();
+        YearMonth firstMonth = YearMonth.now().minusMonths(SUMMARY_MONTHS - 1);
+        List<TransactionsMonthlySummaryDto> transactionsMonthlySummary = reportCache.get(ReportCache.ownerOf(email),
+                "monthlySummary", firstMonth.toString(), () -> monthlyRollupRepository.findMonthlySummaryByUser(email,
+                                firstMonth.getYear() * 12 + firstMonth.getMonthValue())
+                        .stream()
+                        .map(data -> new TransactionsMonthlySummaryDto(
+                                ((Number) data[1]).intValue(),
+                                ((Number) data[2]).doubleValue(),
+                                ((Number) data[3]).doubleValue()
+                        )).toList());
 
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
@@ -71,7 +173,8 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getCategoryBreakdownByUserAndMonth(String email, int year, int month) {
-        var result = transactionRepository.findCategoryBreakdownByUserAndMonth(email, year, month);
+        var result = reportCache.get(ReportCache.ownerOf(email), "categoryBreakdown", year + "-" + month,
+                () -> monthlyRollupRepository.findCategoryBreakdownByUserAndMonth(email, year, month));
         return ResponseEntity.status(HttpStatus.OK).body(
                 new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
                         HttpStatus.OK,
@@ -79,4 +182,496 @@ public class ReportServiceImpl implements ReportService {
                 )
         );
     }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTimeSeries(String email, LocalDate from, LocalDate to, String bucket)
+            throws TransactionServiceLogicException {
+        EReportBucket resolvedBucket;
+        try {
+            resolvedBucket = bucket == null || bucket.isBlank()
+                    ? EReportBucket.MONTH
+                    : EReportBucket.valueOf(bucket.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException("Unsupported bucket '" + bucket + "', use day, week or month");
+        }
+
+        LocalDate toDate = to == null ? LocalDate.now().plusDays(1) : to;
+        LocalDate fromDate = from == null ? resolvedBucket.bucketStart(toDate.minusYears(1)) : from;
+        if (!fromDate.isBefore(toDate)) {
+            throw new TransactionServiceLogicException("Time series range must end after it starts");
+        }
+
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        for (LocalDate start = resolvedBucket.bucketStart(fromDate); start.isBefore(toDate);
+             start = resolvedBucket.nextBucketStart(start)) {
+            if (bucketStarts.size() == MAX_TIME_SERIES_POINTS) {
+                throw new TransactionServiceLogicException("Time series range is too long, use a larger bucket");
+            }
+            bucketStarts.add(start);
+        }
+
+        TimeSeriesResponseDto timeSeries = reportCache.get(ReportCache.ownerOf(email), "timeseries",
+                fromDate + ".." + toDate + ":" + resolvedBucket,
+                () -> buildTimeSeries(email, fromDate, toDate, resolvedBucket, bucketStarts));
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        timeSeries
+                )
+        );
+    }
+
+    private TimeSeriesResponseDto buildTimeSeries(String email, LocalDate fromDate, LocalDate toDate,
+                                                  EReportBucket bucket, List<LocalDate> bucketStarts) {
+        Map<LocalDate, Integer> indexByBucketStart = new HashMap<>();
+        double[] income = new double[bucketStarts.size()];
+        double[] expense = new double[bucketStarts.size()];
+        long[] counts = new long[bucketStarts.size()];
+        for (int i = 0; i < bucketStarts.size(); i++) {
+            indexByBucketStart.put(bucketStarts.get(i), i);
+        }
+
+        for (Object[] row : transactionRepository.findDailyTotalsByUser(email, fromDate, toDate)) {
+            Integer index = indexByBucketStart.get(bucket.bucketStart((LocalDate) row[0]));
+            if (index == null) {
+                continue;
+            }
+            double amount = ((Number) row[2]).doubleValue();
+            if (ETransactionType.TYPE_INCOME.name().equals(row[1])) {
+                income[index] += amount;
+            } else if (ETransactionType.TYPE_EXPENSE.name().equals(row[1])) {
+                expense[index] += amount;
+            }
+            counts[index] += ((Number) row[3]).longValue();
+        }
+
+        List<TimeSeriesPointDto> points = new ArrayList<>(bucketStarts.size());
+        for (int i = 0; i < bucketStarts.size(); i++) {
+            points.add(new TimeSeriesPointDto(bucketStarts.get(i), income[i], expense[i], counts[i]));
+        }
+        return new TimeSeriesResponseDto(fromDate, toDate, bucket, points);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getCategoryMonthPivot(String email, String from, String to)
+            throws TransactionServiceLogicException {
+        YearMonth toMonth;
+        YearMonth fromMonth;
+        try {
+            toMonth = to == null || to.isBlank() ? YearMonth.now() : YearMonth.parse(to.trim());
+            fromMonth = from == null || from.isBlank()
+                    ? toMonth.minusMonths(PIVOT_DEFAULT_MONTHS - 1)
+                    : YearMonth.parse(from.trim());
+        } catch (DateTimeParseException e) {
+            throw new TransactionServiceLogicException("Pivot months must be given as yyyy-MM");
+        }
+        if (fromMonth.isAfter(toMonth) || fromMonth.plusMonths(PIVOT_MAX_MONTHS).isBefore(toMonth.plusMonths(1))) {
+            throw new TransactionServiceLogicException("Pivot range must cover 1 to " + PIVOT_MAX_MONTHS + " months");
+        }
+
+        PivotResponseDto pivot = reportCache.get(ReportCache.ownerOf(email), "pivot", fromMonth + ".." + toMonth,
+                () -> buildCategoryMonthPivot(email, fromMonth, toMonth));
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        pivot
+                )
+        );
+    }
+
+    private PivotResponseDto buildCategoryMonthPivot(String email, YearMonth fromMonth, YearMonth toMonth) {
+        int fromMonthIndex = fromMonth.getYear() * 12 + fromMonth.getMonthValue();
+        int toMonthIndex = toMonth.getYear() * 12 + toMonth.getMonthValue();
+        int monthCount = toMonthIndex - fromMonthIndex + 1;
+
+        List<String> months = new ArrayList<>(monthCount);
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            months.add(month.toString());
+        }
+
+        List<Object[]> rows = monthlyRollupRepository.findCategoryMonthPivotByUser(email, fromMonthIndex, toMonthIndex);
+        TreeMap<Integer, Integer> rowByCategoryId = new TreeMap<>();
+        rows.forEach(row -> rowByCategoryId.put(((Number) row[0]).intValue(), 0));
+        Map<Integer, Category> categories = new HashMap<>();
+        categoryRepository.findAllById(rowByCategoryId.keySet())
+                .forEach(category -> categories.put(category.getCategoryId(), category));
+
+        List<PivotCategoryDto> dictionary = new ArrayList<>(rowByCategoryId.size());
+        for (Map.Entry<Integer, Integer> entry : rowByCategoryId.entrySet()) {
+            Category category = categories.get(entry.getKey());
+            entry.setValue(dictionary.size());
+            dictionary.add(new PivotCategoryDto(
+                    entry.getKey(),
+                    category == null ? null : category.getCategoryName(),
+                    category == null ? null : String.valueOf(category.getTransactionType().getTransactionTypeName())));
+        }
+
+        double[][] totals = new double[dictionary.size()][monthCount];
+        long[][] counts = new long[dictionary.size()][monthCount];
+        for (Object[] row : rows) {
+            int rowIndex = rowByCategoryId.get(((Number) row[0]).intValue());
+            int column = ((Number) row[1]).intValue() * 12 + ((Number) row[2]).intValue() - fromMonthIndex;
+            totals[rowIndex][column] += ((Number) row[3]).doubleValue();
+            counts[rowIndex][column] += ((Number) row[4]).longValue();
+        }
+        return new PivotResponseDto(months, dictionary, totals, counts);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getCalendar(String email, int year, int month)
+            throws TransactionServiceLogicException {
+        MonthRange range;
+        try {
+            range = MonthRange.of(year, month);
+        } catch (DateTimeException e) {
+            throw new TransactionServiceLogicException("Invalid calendar month " + year + "-" + month);
+        }
+
+        CalendarResponseDto calendar = reportCache.get(ReportCache.ownerOf(email), "calendar", year + "-" + month,
+                () -> buildCalendar(email, year, month, range));
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        calendar
+                )
+        );
+    }
+
+    private CalendarResponseDto buildCalendar(String email, int year, int month, MonthRange range) {
+        List<CalendarDayDto> days = new ArrayList<>();
+        for (LocalDate day = range.start(); day.isBefore(range.end()); day = day.plusDays(1)) {
+            days.add(new CalendarDayDto(day, 0, 0, 0, 0));
+        }
+
+        for (Object[] row : transactionRepository.findDailyTotalsByUser(email, range.start(), range.end())) {
+            CalendarDayDto day = days.get(((LocalDate) row[0]).getDayOfMonth() - 1);
+            double amount = ((Number) row[2]).doubleValue();
+            long count = ((Number) row[3]).longValue();
+            if (ETransactionType.TYPE_INCOME.name().equals(row[1])) {
+                day.setIncome(day.getIncome() + amount);
+                day.setIncomeCount(day.getIncomeCount() + count);
+            } else if (ETransactionType.TYPE_EXPENSE.name().equals(row[1])) {
+                day.setExpense(day.getExpense() + amount);
+                day.setExpenseCount(day.getExpenseCount() + count);
+            }
+        }
+        return new CalendarResponseDto(year, month, days);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getForecast(String email, LocalDate until)
+            throws UserNotFoundException, UserServiceLogicException, TransactionServiceLogicException,
+            ReportQueryTimeoutException {
+        LocalDate today = LocalDate.now();
+        LocalDate untilDate = until == null ? YearMonth.from(today).atEndOfMonth() : until;
+        if (untilDate.isBefore(today) || untilDate.isAfter(today.plusDays(MAX_FORECAST_DAYS))) {
+            throw new TransactionServiceLogicException("Forecast date must be between today and "
+                    + MAX_FORECAST_DAYS + " days ahead");
+        }
+
+        ForecastResponseDto forecast;
+        try {
+            forecast = reportCache.get(ReportCache.ownerOf(email), "forecast", today + ".." + untilDate,
+                    () -> buildForecast(email, today, untilDate));
+        } catch (UserNotFoundException | ReportQueryTimeoutException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to build forecast: {}", e.getMessage());
+            throw new UserServiceLogicException("Failed to load forecast: Try again later!");
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        forecast
+                )
+        );
+    }
+
+    private ForecastResponseDto buildForecast(String email, LocalDate today, LocalDate until)
+            throws UserNotFoundException, ReportQueryTimeoutException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email " + email));
+        YearMonth currentMonth = YearMonth.from(today);
+        int currentMonthIndex = currentMonth.getYear() * 12 + currentMonth.getMonthValue();
+
+        ReportQueryExecutor.Subtask<List<Object[]>> rollupRows;
+        ReportQueryExecutor.Subtask<List<SavedTransaction>> plans;
+        try (ReportQueryExecutor.Scope scope = reportQueryExecutor.open()) {
+            rollupRows = scope.fork("forecastRollups", () -> monthlyRollupRepository.findCategoryMonthTotalsByUser(
+                    user.getId(), currentMonthIndex - SpendingForecast.RUN_RATE_MONTHS, currentMonthIndex));
+            plans = scope.fork("forecastPlans", () ->
+                    savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(user.getId()));
+            scope.join();
+        }
+
+        Map<Integer, Category> categories = new HashMap<>();
+        categoryRepository.findAll().forEach(category -> categories.put(category.getCategoryId(), category));
+
+        return SpendingForecast.project(today, until, rollupRows.get(), plans.get(), categories);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTopPayees(String email, int limit) throws UserNotFoundException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email " + email));
+
+        List<TopPayeeDto> topPayees = topPayeesTracker.topPayees(user.getId(), user.getEmail(), Math.max(1, limit))
+                .stream()
+                .map(counter -> new TopPayeeDto(counter.item(), counter.weight(), counter.count(), counter.error()))
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        topPayees
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getRollingTotals(String email) throws UserNotFoundException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email " + email));
+
+        List<RollingWindowDto> windows = rollingSpendTracker.windowTotals(user.getId(), user.getEmail()).stream()
+                .map(window -> new RollingWindowDto(window.days(), window.expense(), window.income()))
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        new RollingTotalsResponseDto(LocalDate.now(), windows)
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getSpendingAnomalies(String email, int limit) throws UserNotFoundException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email " + email));
+
+        List<SpendingAnomalyDto> anomalies = spendingAnomalyDetector.recentAnomalies(user.getId(), Math.max(1, limit))
+                .stream()
+                .map(anomaly -> new SpendingAnomalyDto(anomaly.transactionId(), anomaly.date(), anomaly.categoryName(),
+                        anomaly.description(), anomaly.amount(), anomaly.expectedAmount(), anomaly.deviation()))
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        anomalies
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getCategoryPercentiles(String from, String to, Integer categoryId)
+            throws TransactionServiceLogicException, ReportNotReadyException {
+        YearMonth toMonth;
+        YearMonth fromMonth;
+        try {
+            toMonth = to == null || to.isBlank() ? YearMonth.now() : YearMonth.parse(to.trim());
+            fromMonth = from == null || from.isBlank() ? toMonth : YearMonth.parse(from.trim());
+        } catch (DateTimeParseException e) {
+            throw new TransactionServiceLogicException("Percentile months must be given as yyyy-MM");
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new TransactionServiceLogicException("Percentile range must start on or before its end");
+        }
+        if (!transactionColumnStore.isReady()) {
+            throw new ReportNotReadyException("Spending percentiles are still loading, please retry shortly");
+        }
+
+        Map<Integer, TDigest> digests = transactionColumnStore.amountDigests(
+                TransactionColumnStore.monthIndexOf(fromMonth.atDay(1)),
+                TransactionColumnStore.monthIndexOf(toMonth.atDay(1)),
+                categoryId);
+        Map<Integer, Category> categories = new HashMap<>();
+        categoryRepository.findAllById(digests.keySet())
+                .forEach(category -> categories.put(category.getCategoryId(), category));
+
+        List<CategoryPercentileDto> percentiles = new ArrayList<>(digests.size());
+        digests.forEach((id, digest) -> {
+            Category category = categories.get(id);
+            percentiles.add(new CategoryPercentileDto(
+                    id,
+                    category == null ? String.valueOf(id) : category.getCategoryName(),
+                    category == null ? null : String.valueOf(category.getTransactionType().getTransactionTypeName()),
+                    digest.count(),
+                    digest.quantile(0.5) / 100.0,
+                    digest.quantile(0.9) / 100.0,
+                    digest.quantile(0.99) / 100.0));
+        });
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        percentiles
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getPlatformCategoryTotals(LocalDate from, LocalDate to, Integer transactionTypeId) {
+        LocalDate quarterStart = LocalDate.now().withDayOfMonth(1)
+                .withMonth((LocalDate.now().getMonthValue() - 1) / 3 * 3 + 1);
+        LocalDate fromDate = from == null ? quarterStart : from;
+        LocalDate toDate = to == null ? quarterStart.plusMonths(3) : to;
+
+        List<CategoryTotal> totals;
+        if (transactionColumnStore.isReady()) {
+            totals = transactionColumnStore.categoryTotals(fromDate, toDate, transactionTypeId);
+        } else {
+            totals = transactionRepository.findCategoryTotalsBetween(fromDate, toDate, transactionTypeId).stream()
+                    .map(row -> new CategoryTotal(
+                            ((Number) row[0]).intValue(),
+                            TransactionColumnStore.toCents(((Number) row[1]).doubleValue()),
+                            ((Number) row[2]).longValue()))
+                    .toList();
+        }
+
+        Map<Integer, Category> categories = new HashMap<>();
+        categoryRepository.findAll().forEach(category -> categories.put(category.getCategoryId(), category));
+
+        List<CategoryBreakdownDto> result = new ArrayList<>();
+        for (CategoryTotal total : totals) {
+            Category category = categories.get(total.categoryId());
+            result.add(new CategoryBreakdownDto(
+                    category == null ? String.valueOf(total.categoryId()) : category.getCategoryName(),
+                    category == null ? null : String.valueOf(category.getTransactionType().getTransactionTypeName()),
+                    total.totalCents() / 100.0,
+                    total.transactionCount()));
+        }
+        result.sort(Comparator.comparingDouble(CategoryBreakdownDto::getTotalAmount).reversed());
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        result
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getReportCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        reportCache.stats()
+                )
+        );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getDashboard(String email, int year, int month)
+            throws UserNotFoundException, UserServiceLogicException, ReportQueryTimeoutException, TransactionServiceLogicException {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new TransactionServiceLogicException("Invalid dashboard month " + year + "-" + month);
+        }
+
+        DashboardResponseDto dashboard;
+        try {
+            // saved transaction due labels are relative to today, so a cached dashboard must not outlive the day
+            dashboard = reportCache.get(ReportCache.ownerOf(email), "dashboard",
+                    yearMonth + "@" + LocalDate.now(), () -> buildDashboard(email, year, month));
+        } catch (UserNotFoundException | ReportQueryTimeoutException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to build dashboard: {}", e.getMessage());
+            throw new UserServiceLogicException("Failed to load dashboard: Try again later!");
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        dashboard
+                )
+        );
+    }
+
+    private DashboardResponseDto buildDashboard(String email, int year, int month)
+            throws UserNotFoundException, ReportQueryTimeoutException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email " + email));
+        YearMonth firstMonth = YearMonth.now().minusMonths(SUMMARY_MONTHS - 1);
+        int firstMonthIndex = firstMonth.getYear() * 12 + firstMonth.getMonthValue();
+
+        ReportQueryExecutor.Subtask<List<Object[]>> rollupRows;
+        ReportQueryExecutor.Subtask<Budget> budget;
+        ReportQueryExecutor.Subtask<List<SavedTransactionResponseDto>> savedTransactions;
+        try (ReportQueryExecutor.Scope scope = reportQueryExecutor.open()) {
+            rollupRows = scope.fork("dashboardRollups", () ->
+                    monthlyRollupRepository.findDashboardRowsByUser(user.getId(), firstMonthIndex, year * 12 + month));
+            budget = scope.fork("dashboardBudget", () ->
+                    budgetRepository.findByUserIdAndMonthAndYear(user.getId(), month, year));
+            savedTransactions = scope.fork("dashboardSavedTransactions", () ->
+                    savedTransactionService.getSavedTransactionsDueInMonth(user.getId(), month));
+            scope.join();
+        }
+
+        double totalExpense = 0;
+        double totalIncome = 0;
+        long totalNoOfTransactions = 0;
+        Map<Integer, double[]> summaryByMonthIndex = new TreeMap<>();
+        Map<String, CategoryBreakdownDto> breakdown = new LinkedHashMap<>();
+
+        for (Object[] row : rollupRows.get()) {
+            int rowYear = ((Number) row[0]).intValue();
+            int rowMonth = ((Number) row[1]).intValue();
+            int transactionTypeId = ((Number) row[2]).intValue();
+            String categoryName = (String) row[3];
+            String transactionTypeName = (String) row[4];
+            double amount = ((Number) row[5]).doubleValue();
+            long count = ((Number) row[6]).longValue();
+
+            int monthIndex = rowYear * 12 + rowMonth;
+            if (monthIndex >= firstMonthIndex) {
+                double[] summary = summaryByMonthIndex.computeIfAbsent(monthIndex, k -> new double[2]);
+                if (transactionTypeId == EXPENSE_TYPE_ID) {
+                    summary[0] += amount;
+                } else if (transactionTypeId == INCOME_TYPE_ID) {
+                    summary[1] += amount;
+                }
+            }
+
+            if (rowYear == year && rowMonth == month) {
+                if (transactionTypeId == EXPENSE_TYPE_ID) {
+                    totalExpense += amount;
+                } else if (transactionTypeId == INCOME_TYPE_ID) {
+                    totalIncome += amount;
+                }
+                totalNoOfTransactions += count;
+                CategoryBreakdownDto item = breakdown.computeIfAbsent(categoryName + "|" + transactionTypeName,
+                        k -> new CategoryBreakdownDto(categoryName, transactionTypeName, 0, 0));
+                item.setTotalAmount(item.getTotalAmount() + amount);
+                item.setTransactionCount(item.getTransactionCount() + count);
+            }
+        }
+
+        List<TransactionsMonthlySummaryDto> monthlySummary = new ArrayList<>();
+        summaryByMonthIndex.forEach((monthIndex, totals) -> monthlySummary.add(
+                new TransactionsMonthlySummaryDto((monthIndex - 1) % 12 + 1, totals[0], totals[1])));
+
+        List<CategoryBreakdownDto> categoryBreakdown = new ArrayList<>(breakdown.values());
+        categoryBreakdown.sort(Comparator.comparingDouble(CategoryBreakdownDto::getTotalAmount).reversed());
+
+        return new DashboardResponseDto(
+                year,
+                month,
+                totalExpense,
+                totalIncome,
+                totalNoOfTransactions,
+                budget.get() == null ? 0 : budget.get().getAmount(),
+                monthlySummary,
+                categoryBreakdown,
+                savedTransactions.get()
+        );
+    }
 }
@@ -5,12 +5,16 @@ import com.fullStack.expenseTracker.dto.reponses.SavedTransactionResponseDto;
 import com.fullStack.expenseTracker.dto.requests.SavedTransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
 import com.fullStack.expenseTracker.exceptions.UserServiceLogicException;
 import com.fullStack.expenseTracker.models.SavedTransaction;
 import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.reports.ReportCache;
 import com.fullStack.expenseTracker.repository.SavedTransactionRepository;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
@@ -18,9 +22,11 @@ import com.fullStack.expenseTracker.services.CategoryService;
 import com.fullStack.expenseTracker.services.SavedTransactionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -43,6 +49,12 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReportCache reportCache;
+
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> createSavedTransaction(SavedTransactionRequestDto requestDto)
@@ -57,6 +69,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
                     "Failed to map saved transaction request");
 
             savedTransactionRepository.save(plannedTransaction);
+            invalidateReports(plannedTransaction.getUserId());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -75,6 +88,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> addSavedTransaction(long savedTransactionId)
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
@@ -84,7 +98,9 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
             Transaction transaction = Objects.requireNonNull(
                     savedTransactionToTransaction(plannedTransaction),
                     "Failed to convert saved transaction into transaction");
-            transactionRepository.save(transaction);
+            Transaction saved = transactionRepository.save(transaction);
+            eventPublisher.publishEvent(TransactionsChangedEvent.of(
+                    TransactionChange.created(TransactionSnapshot.of(saved))));
 
             LocalDate upcomingDate = getUpcomingDate(plannedTransaction.getFrequency(), plannedTransaction.getUpcomingDate());
 
@@ -125,6 +141,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
             plannedTransaction.setCategoryId(requestDto.getCategoryId());
 
             savedTransactionRepository.save(plannedTransaction);
+            invalidateReports(plannedTransaction.getUserId());
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -146,11 +163,11 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     public ResponseEntity<ApiResponseDto<?>> deleteSavedTransaction(long plannedTransactionId)
             throws UserServiceLogicException, TransactionNotFoundException {
         try {
-            if (!savedTransactionRepository.existsById(plannedTransactionId)) {
-                throw new TransactionNotFoundException("Transaction not found with id: " + plannedTransactionId);
-            }
+            SavedTransaction plannedTransaction = savedTransactionRepository.findById(plannedTransactionId)
+                    .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with id: " + plannedTransactionId));
 
-            savedTransactionRepository.deleteById(plannedTransactionId);
+            savedTransactionRepository.delete(plannedTransaction);
+            invalidateReports(plannedTransaction.getUserId());
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
@@ -176,6 +193,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
 
             plannedTransaction.setUpcomingDate(upcomingDate);
             savedTransactionRepository.save(plannedTransaction);
+            invalidateReports(plannedTransaction.getUserId());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
@@ -225,15 +243,7 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
     public ResponseEntity<ApiResponseDto<?>> getAllTransactionsByUserAndMonth(long userId) throws UserServiceLogicException, UserNotFoundException {
         try {
             if (userRepository.existsById(userId)) {
-                List<SavedTransaction> transactions = savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(userId).stream()
-                        .filter(t -> t.getUpcomingDate().getMonthValue() == LocalDate.now().getMonthValue())
-                        .toList();
-
-                List<SavedTransactionResponseDto> response = new ArrayList<>();
-
-                for (SavedTransaction t: transactions) {
-                    response.add(savedTransactionToDto(t));
-                }
+                List<SavedTransactionResponseDto> response = getSavedTransactionsDueInMonth(userId, LocalDate.now().getMonthValue());
 
                 return ResponseEntity.status(HttpStatus.OK).body(
                         new ApiResponseDto<>(
@@ -252,6 +262,17 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         throw new UserNotFoundException("User not found with id: " + userId);
     }
 
+    @Override
+    public List<SavedTransactionResponseDto> getSavedTransactionsDueInMonth(long userId, int month) throws CategoryNotFoundException {
+        List<SavedTransactionResponseDto> response = new ArrayList<>();
+        for (SavedTransaction t : savedTransactionRepository.findByUserIdOrderByUpcomingDateAsc(userId)) {
+            if (t.getUpcomingDate().getMonthValue() == month) {
+                response.add(savedTransactionToDto(t));
+            }
+        }
+        return response;
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getSavedTransactionById(long savedTransactionId)
             throws UserServiceLogicException, TransactionNotFoundException {
@@ -297,6 +318,10 @@ public class SavedTransactionServiceImpl implements SavedTransactionService {
         );
     }
 
+    private void invalidateReports(long userId) {
+        userRepository.findById(userId).ifPresent(user -> reportCache.invalidateUser(user.getId(), user.getEmail()));
+    }
+
     private LocalDate getUpcomingDate(ETransactionFrequency frequency, LocalDate currentDate) {
         if (frequency == ETransactionFrequency.DAILY) {
             return currentDate.plusDays(1);
@@ -0,0 +1,109 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.TransactionExportService;
+import com.fullStack.expenseTracker.services.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final String CSV_HEADER = "transactionId,date,description,categoryId,category,transactionType,amount";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportTransactions(String email, String format)
+            throws UserNotFoundException, TransactionServiceLogicException {
+        if (!userService.existsByEmail(email)) {
+            throw new UserNotFoundException("User not found with email " + email);
+        }
+
+        String resolvedFormat = format == null || format.isBlank() ? "csv" : format.toLowerCase(Locale.ROOT);
+        if (!resolvedFormat.equals("csv") && !resolvedFormat.equals("ndjson")) {
+            throw new TransactionServiceLogicException("Unsupported export format '" + format + "', use csv or ndjson");
+        }
+        boolean csv = resolvedFormat.equals("csv");
+
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        StreamingResponseBody body = outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TransactionView> rows = transactionRepository.streamByUser(email)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                if (csv) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<TransactionView> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    TransactionView row = iterator.next();
+                    writer.write(csv ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                writer.flush();
+            } catch (IOException e) {
+                log.error("Failed to stream transaction export: {}", e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions." + resolvedFormat + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    private String toCsvLine(TransactionView row) {
+        return row.transactionId() + "," +
+                row.date() + "," +
+                escapeCsv(row.description()) + "," +
+                row.categoryId() + "," +
+                escapeCsv(row.categoryName()) + "," +
+                row.transactionType() + "," +
+                row.amount();
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
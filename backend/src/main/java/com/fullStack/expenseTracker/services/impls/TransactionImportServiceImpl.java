@@ -0,0 +1,233 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.ImportRowErrorDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionImportResponseDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.imports.CsvTransactionFileReader;
+import com.fullStack.expenseTracker.imports.ImportedTransaction;
+import com.fullStack.expenseTracker.imports.OfxTransactionFileReader;
+import com.fullStack.expenseTracker.imports.TransactionFileReader;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import com.fullStack.expenseTracker.services.TransactionImportService;
+import com.fullStack.expenseTracker.services.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+@Component
+@Slf4j
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private static final int MAX_DESCRIPTION_LENGTH = 50;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.transaction.import.chunk-size:1000}")
+    private int chunkSize;
+
+    private record PendingRow(long lineNumber, NewTransactionRow row, Category category) {
+    }
+
+    private static class ImportProgress {
+        long totalRows;
+        long importedRows;
+        long failedRows;
+        final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowErrorDto(lineNumber, message));
+            }
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> importTransactions(String email, MultipartFile file, String format,
+                                                                Integer expenseCategoryId, Integer incomeCategoryId)
+            throws UserNotFoundException, TransactionServiceLogicException {
+        User user = userService.findByEmail(email);
+
+        Map<String, Map<ETransactionType, Category>> categoriesByName = new HashMap<>();
+        Map<Integer, Category> categoriesById = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoriesByName.computeIfAbsent(category.getCategoryName().trim().toLowerCase(Locale.ROOT),
+                            name -> new EnumMap<>(ETransactionType.class))
+                    .putIfAbsent(category.getTransactionType().getTransactionTypeName(), category);
+            categoriesById.put(category.getCategoryId(), category);
+        }
+        Category defaultExpense = expenseCategoryId == null ? null : categoriesById.get(expenseCategoryId);
+        Category defaultIncome = incomeCategoryId == null ? null : categoriesById.get(incomeCategoryId);
+
+        ImportProgress progress = new ImportProgress();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+
+        try (TransactionFileReader reader = openReader(file, format)) {
+            ImportedTransaction imported;
+            while ((imported = reader.next()) != null) {
+                progress.totalRows++;
+                if (imported.error() != null) {
+                    progress.fail(imported.lineNumber(), imported.error());
+                    continue;
+                }
+
+                Category category = resolveCategory(imported, categoriesByName, defaultExpense, defaultIncome, progress);
+                if (category == null) {
+                    continue;
+                }
+                if (imported.description().isEmpty() || imported.description().length() > MAX_DESCRIPTION_LENGTH) {
+                    progress.fail(imported.lineNumber(), "Description is required and can have atmost 50 characters");
+                    continue;
+                }
+
+                chunk.add(new PendingRow(imported.lineNumber(), new NewTransactionRow(
+                        user.getId(),
+                        category.getCategoryId(),
+                        imported.description(),
+                        Math.abs(imported.amount()),
+                        imported.date()
+                ), category));
+
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, user, progress);
+                }
+            }
+            flush(chunk, user, progress);
+        } catch (IOException e) {
+            log.error("Failed to read transaction import file: {}", e.getMessage());
+            throw new TransactionServiceLogicException("Failed to read the import file: " + e.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto<>(
+                        ApiResponseStatus.SUCCESS,
+                        HttpStatus.OK,
+                        new TransactionImportResponseDto(
+                                progress.totalRows,
+                                progress.importedRows,
+                                progress.failedRows,
+                                progress.errors
+                        )
+                )
+        );
+    }
+
+    /**
+     * Category names are only unique per transaction type, so a name shared by an expense and an income
+     * category needs the row's type to pick one. Rows without a category fall back to the default for
+     * their type, or for the amount's sign when the file carries no type.
+     */
+    private Category resolveCategory(ImportedTransaction imported,
+                                     Map<String, Map<ETransactionType, Category>> categoriesByName,
+                                     Category defaultExpense, Category defaultIncome, ImportProgress progress) {
+        ETransactionType type = imported.transactionType();
+        if (imported.categoryName() == null) {
+            boolean expense = type != null ? type == ETransactionType.TYPE_EXPENSE : imported.amount() < 0;
+            Category category = expense ? defaultExpense : defaultIncome;
+            if (category == null) {
+                progress.fail(imported.lineNumber(), "No category given and no default category selected");
+            }
+            return category;
+        }
+
+        Map<ETransactionType, Category> candidates =
+                categoriesByName.getOrDefault(imported.categoryName().toLowerCase(Locale.ROOT), Map.of());
+        if (type != null) {
+            Category category = candidates.get(type);
+            if (category == null) {
+                progress.fail(imported.lineNumber(), "Unknown " + (type == ETransactionType.TYPE_EXPENSE ? "expense" : "income")
+                        + " category '" + imported.categoryName() + "'");
+            }
+            return category;
+        }
+        if (candidates.size() > 1) {
+            progress.fail(imported.lineNumber(), "Category '" + imported.categoryName()
+                    + "' exists for both expense and income, add a type column to choose one");
+            return null;
+        }
+        if (candidates.isEmpty()) {
+            progress.fail(imported.lineNumber(), "Unknown category '" + imported.categoryName() + "'");
+            return null;
+        }
+        return candidates.values().iterator().next();
+    }
+
+    private void flush(List<PendingRow> chunk, User user, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<NewTransactionRow> rows = chunk.stream().map(PendingRow::row).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = transactionJdbcRepository.batchInsert(rows);
+                List<TransactionSnapshot> created = new ArrayList<>(ids.size());
+                for (int i = 0; i < ids.size() && i < chunk.size(); i++) {
+                    PendingRow pending = chunk.get(i);
+                    created.add(TransactionSnapshot.of(ids.get(i), user.getId(), user.getEmail(), pending.category(),
+                            pending.row().description(), pending.row().amount(), pending.row().date()));
+                }
+                eventPublisher.publishEvent(TransactionsChangedEvent.created(created));
+            });
+            progress.importedRows += chunk.size();
+        } catch (Exception e) {
+            log.error("Failed to write transaction import chunk: {}", e.getMessage());
+            for (PendingRow pending : chunk) {
+                progress.fail(pending.lineNumber(), "Failed to save row, Try again later!");
+            }
+        }
+        chunk.clear();
+    }
+
+    private TransactionFileReader openReader(MultipartFile file, String format) throws IOException {
+        String resolvedFormat = format;
+        if (resolvedFormat == null || resolvedFormat.isBlank()) {
+            String filename = file.getOriginalFilename() == null ? "" : file.getOriginalFilename();
+            resolvedFormat = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+
+        InputStream inputStream = file.getInputStream();
+        return switch (resolvedFormat.toLowerCase(Locale.ROOT)) {
+            case "csv" -> new CsvTransactionFileReader(inputStream);
+            case "ofx", "qfx" -> new OfxTransactionFileReader(inputStream);
+            default -> {
+                inputStream.close();
+                throw new IOException("Unsupported import format '" + resolvedFormat + "', use csv or ofx");
+            }
+        };
+    }
+}
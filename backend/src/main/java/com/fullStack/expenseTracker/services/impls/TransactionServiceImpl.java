@@ -2,59 +2,120 @@ package com.fullStack.expenseTracker.services.impls;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.reponses.CursorPageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.SliceResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionAcceptedResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchUpdateDto;
 import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
 import com.fullStack.expenseTracker.exceptions.CategoryNotFoundException;
 import com.fullStack.expenseTracker.exceptions.TransactionNotFoundException;
+import com.fullStack.expenseTracker.exceptions.TransactionQueueFullException;
 import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
 import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.ingestion.TransactionWriteBehindQueue;
+import com.fullStack.expenseTracker.ingestion.TransactionWriteBehindQueue.PendingTransaction;
+import com.fullStack.expenseTracker.models.Category;
 import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.UpdatedTransactionRow;
 import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.search.IdPage;
+import com.fullStack.expenseTracker.search.TransactionSearchIndex;
 import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.TransactionCountEstimator;
 import com.fullStack.expenseTracker.services.TransactionService;
 import com.fullStack.expenseTracker.services.UserService;
+import com.fullStack.expenseTracker.utils.TransactionCursor;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+
     @Autowired
     TransactionRepository transactionRepository;
 
+    @Autowired
+    TransactionJdbcRepository transactionJdbcRepository;
+
+    @Autowired
+    Validator validator;
+
+    @Autowired
+    TransactionCountEstimator transactionCountEstimator;
+
+    @Autowired
+    TransactionWriteBehindQueue transactionWriteBehindQueue;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
     @Autowired
     UserService userService;
 
     @Autowired
     CategoryService categoryService;
 
+    @Autowired
+    TransactionSearchIndex transactionSearchIndex;
+
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> addTransaction(TransactionRequestDto transactionRequestDto)
-            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
+            throws UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException, TransactionQueueFullException {
+        if (transactionWriteBehindQueue.isEnabled()) {
+            return enqueueTransaction(transactionRequestDto);
+        }
+
         Transaction transaction = Objects.requireNonNull(
                 TransactionRequestDtoToTransaction(transactionRequestDto),
                 "Failed to map transaction request payload");
         try {
-            transactionRepository.save(transaction);
+            Transaction saved = transactionRepository.save(transaction);
+            eventPublisher.publishEvent(TransactionsChangedEvent.of(
+                    TransactionChange.created(TransactionSnapshot.of(saved))));
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
@@ -70,6 +131,43 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    private ResponseEntity<ApiResponseDto<?>> enqueueTransaction(TransactionRequestDto transactionRequestDto)
+            throws UserNotFoundException, CategoryNotFoundException, TransactionQueueFullException {
+        User user = userService.findByEmail(transactionRequestDto.getUserEmail());
+        Category category = categoryService.getCategoryById(transactionRequestDto.getCategoryId());
+
+        PendingTransaction pending = new PendingTransaction(
+                UUID.randomUUID().toString(),
+                new NewTransactionRow(
+                        user.getId(),
+                        category.getCategoryId(),
+                        transactionRequestDto.getDescription(),
+                        transactionRequestDto.getAmount(),
+                        transactionRequestDto.getDate()
+                ),
+                user.getEmail(),
+                category
+        );
+
+        if (!transactionWriteBehindQueue.offer(pending)) {
+            if (transactionWriteBehindQueue.isFailing()) {
+                throw new TransactionQueueFullException("Transactions can't be recorded right now, Try again shortly!");
+            }
+            throw new TransactionQueueFullException("Too many transactions are being recorded right now, Try again shortly!");
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new ApiResponseDto<>(
+                        ApiResponseStatus.SUCCESS,
+                        HttpStatus.ACCEPTED,
+                        new TransactionAcceptedResponseDto(
+                                pending.provisionalId(),
+                                "Transaction has been accepted and will be recorded shortly!"
+                        )
+                )
+        );
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTransactionsByUser(String email,
                                                                    int pageNumber, int pageSize,
@@ -84,8 +182,15 @@ public class TransactionServiceImpl implements TransactionService {
 
         Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(direction, sortField);
 
-        Page<Transaction> transactions = transactionRepository.findByUser(email,
-                pageable, searchKey, transactionType);
+        Page<TransactionView> transactions;
+        if (transactionSearchIndex.isSearchable(searchKey) && transactionSearchIndex.isSortable(sortField)) {
+            IdPage page = transactionSearchIndex.pageByUser(email, searchKey, transactionType, sortField,
+                    direction == Sort.Direction.DESC, (int) pageable.getOffset(), pageSize);
+            transactions = new PageImpl<>(findViewsInOrder(page.ids()), pageable, page.total());
+        } else {
+            transactions = transactionRepository.findByUser(email,
+                    pageable, searchKey, transactionType);
+        }
 
         try {
             if (transactions.getTotalElements() == 0) {
@@ -104,8 +209,8 @@ public class TransactionServiceImpl implements TransactionService {
 
             List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
 
-            for (Transaction transaction: transactions) {
-                transactionResponseDtoList.add(transactionToTransactionResponseDto(transaction));
+            for (TransactionView transaction: transactions) {
+                transactionResponseDtoList.add(transactionViewToTransactionResponseDto(transaction));
             }
 
             return ResponseEntity.status(HttpStatus.OK).body(
@@ -126,6 +231,63 @@ public class TransactionServiceImpl implements TransactionService {
 
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getTransactionsByUserAfter(String email, String cursor, int pageSize,
+                                                                        String searchKey, String transactionType)
+            throws TransactionServiceLogicException {
+
+        TransactionCursor position;
+        try {
+            position = TransactionCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new TransactionServiceLogicException("Invalid cursor! Reload your transactions and try again");
+        }
+
+        try {
+            String typeFilter = transactionType == null ? "" : transactionType;
+            List<TransactionView> transactions;
+            if (transactionSearchIndex.isSearchable(searchKey)) {
+                transactions = findViewsInOrder(transactionSearchIndex.pageByUserAfter(email, searchKey, typeFilter,
+                        position.date(), position.transactionId(), pageSize + 1));
+            } else {
+                transactions = transactionRepository.findByUserAfter(email,
+                        searchKey == null ? "" : searchKey, typeFilter,
+                        position.date(), position.transactionId(),
+                        PageRequest.of(0, pageSize + 1));
+            }
+
+            boolean hasMore = transactions.size() > pageSize;
+            if (hasMore) {
+                transactions = transactions.subList(0, pageSize);
+            }
+
+            List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
+
+            for (TransactionView transaction: transactions) {
+                transactionResponseDtoList.add(transactionViewToTransactionResponseDto(transaction));
+            }
+
+            String nextCursor = hasMore
+                    ? TransactionCursor.of(transactions.get(transactions.size() - 1)).encode()
+                    : null;
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new CursorPageResponseDto<>(
+                                    groupTransactionsByDate(transactionResponseDtoList),
+                                    nextCursor,
+                                    hasMore
+                            )
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Error happen when scrolling transactions of a user: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch your transactions! Try again later");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getTransactionById(Long transactionId)
             throws TransactionNotFoundException {
@@ -146,6 +308,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> updateTransaction(Long transactionId, TransactionRequestDto transactionRequestDto)
             throws TransactionNotFoundException, UserNotFoundException, CategoryNotFoundException, TransactionServiceLogicException {
 
@@ -155,6 +318,7 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = transactionRepository.findById(nonNullTransactionId).orElseThrow(
                 () -> new TransactionNotFoundException("Transaction not found with id : " + transactionId)
         );
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
 
         transaction.setAmount(transactionRequestDto.getAmount());
         transaction.setDate(transactionRequestDto.getDate());
@@ -163,7 +327,9 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setDescription(transactionRequestDto.getDescription());
 
         try {
-            transactionRepository.save(transaction);
+            Transaction saved = transactionRepository.save(transaction);
+            eventPublisher.publishEvent(TransactionsChangedEvent.of(
+                    TransactionChange.updated(before, TransactionSnapshot.of(saved))));
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
@@ -179,36 +345,170 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<ApiResponseDto<?>> deleteTransaction(Long transactionId) throws TransactionNotFoundException, TransactionServiceLogicException {
 
         final long nonNullTransactionId = Objects.requireNonNull(
                 transactionId, "transactionId must not be null");
 
-        if (transactionRepository.existsById(nonNullTransactionId)) {
-            try {
-                transactionRepository.deleteById(nonNullTransactionId);
-                return ResponseEntity.status(HttpStatus.OK).body(
-                        new ApiResponseDto<>(
-                                ApiResponseStatus.SUCCESS,
-                                HttpStatus.OK,
-                                "Transaction has been successfully deleted!"
-                        )
-                );
-            }catch(Exception e) {
-                log.error("Error happen when retrieving transactions of a user: " + e.getMessage());
-                throw new TransactionServiceLogicException("Failed to delete your transactions! Try again later");
+        Transaction transaction = transactionRepository.findById(nonNullTransactionId).orElseThrow(
+                () -> new TransactionNotFoundException("Transaction not found with id : " + transactionId)
+        );
+
+        try {
+            TransactionSnapshot before = TransactionSnapshot.of(transaction);
+            transactionRepository.delete(transaction);
+            eventPublisher.publishEvent(TransactionsChangedEvent.of(TransactionChange.deleted(before)));
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            "Transaction has been successfully deleted!"
+                    )
+            );
+        }catch(Exception e) {
+            log.error("Error happen when retrieving transactions of a user: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to delete your transactions! Try again later");
+        }
+
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<ApiResponseDto<?>> processTransactionBatch(TransactionBatchRequestDto transactionBatchRequestDto)
+            throws TransactionServiceLogicException {
+
+        List<TransactionRequestDto> creates = transactionBatchRequestDto.getCreates() == null
+                ? new ArrayList<>() : transactionBatchRequestDto.getCreates();
+        List<TransactionBatchUpdateDto> updates = transactionBatchRequestDto.getUpdates() == null
+                ? new ArrayList<>() : transactionBatchRequestDto.getUpdates();
+        List<Long> deletes = transactionBatchRequestDto.getDeletes() == null
+                ? new ArrayList<>() : transactionBatchRequestDto.getDeletes();
+
+        if (creates.size() + updates.size() + deletes.size() > MAX_BATCH_SIZE) {
+            throw new TransactionServiceLogicException("A batch can have atmost " + MAX_BATCH_SIZE + " operations!");
+        }
+
+        Set<String> emails = new HashSet<>();
+        Set<Integer> categoryIds = new HashSet<>();
+        Set<Long> referencedIds = new HashSet<>();
+        for (TransactionRequestDto create : creates) {
+            collectReferences(create, emails, categoryIds);
+        }
+        for (TransactionBatchUpdateDto update : updates) {
+            collectReferences(update.getTransaction(), emails, categoryIds);
+            if (update.getTransactionId() != null) {
+                referencedIds.add(update.getTransactionId());
+            }
+        }
+        for (Long transactionId : deletes) {
+            if (transactionId != null) {
+                referencedIds.add(transactionId);
             }
-        }else {
-            throw new TransactionNotFoundException("Transaction not found with id : " + transactionId);
         }
 
+        try {
+            Map<String, User> users = new HashMap<>();
+            for (String email : emails) {
+                if (userService.existsByEmail(email)) {
+                    users.put(email, userService.findByEmail(email));
+                }
+            }
+            Map<Integer, Category> categories = categoryService.getCategoriesByIds(categoryIds);
+            Map<Long, TransactionSnapshot> current = new HashMap<>();
+            if (!referencedIds.isEmpty()) {
+                for (TransactionSnapshot snapshot : transactionRepository.findSnapshotsByIds(referencedIds)) {
+                    current.put(snapshot.transactionId(), snapshot);
+                }
+            }
+
+            List<BatchItemResultDto> results = new ArrayList<>();
+            List<TransactionChange> changes = new ArrayList<>();
+
+            List<NewTransactionRow> newRows = new ArrayList<>();
+            List<BatchItemResultDto> createResults = new ArrayList<>();
+            for (int i = 0; i < creates.size(); i++) {
+                TransactionRequestDto create = creates.get(i);
+                String error = validateBatchItem(create, users, categories);
+                BatchItemResultDto result = new BatchItemResultDto("create", i, null,
+                        error == null ? ApiResponseStatus.SUCCESS : ApiResponseStatus.FAILED, error);
+                results.add(result);
+                if (error == null) {
+                    newRows.add(toTransactionRow(create, users, categories));
+                    createResults.add(result);
+                }
+            }
+            List<Long> generatedIds = transactionJdbcRepository.batchInsert(newRows);
+            for (int i = 0; i < generatedIds.size() && i < createResults.size(); i++) {
+                String email = creates.get(createResults.get(i).getIndex()).getUserEmail();
+                createResults.get(i).setTransactionId(generatedIds.get(i));
+                changes.add(TransactionChange.created(toSnapshot(generatedIds.get(i), newRows.get(i), email, categories)));
+            }
+
+            List<UpdatedTransactionRow> updatedRows = new ArrayList<>();
+            for (int i = 0; i < updates.size(); i++) {
+                TransactionBatchUpdateDto update = updates.get(i);
+                Long transactionId = update.getTransactionId();
+                String error = transactionId == null
+                        ? "Transaction id is required!"
+                        : !current.containsKey(transactionId)
+                        ? "Transaction not found with id : " + transactionId
+                        : validateBatchItem(update.getTransaction(), users, categories);
+                results.add(new BatchItemResultDto("update", i, transactionId,
+                        error == null ? ApiResponseStatus.SUCCESS : ApiResponseStatus.FAILED, error));
+                if (error == null) {
+                    NewTransactionRow row = toTransactionRow(update.getTransaction(), users, categories);
+                    updatedRows.add(new UpdatedTransactionRow(transactionId, row));
+                    TransactionSnapshot after = toSnapshot(transactionId, row, update.getTransaction().getUserEmail(), categories);
+                    changes.add(TransactionChange.updated(current.put(transactionId, after), after));
+                }
+            }
+            transactionJdbcRepository.batchUpdate(updatedRows);
+
+            Set<Long> deletedIds = new LinkedHashSet<>();
+            for (int i = 0; i < deletes.size(); i++) {
+                Long transactionId = deletes.get(i);
+                TransactionSnapshot before = transactionId == null ? null : current.remove(transactionId);
+                results.add(new BatchItemResultDto("delete", i, transactionId,
+                        before != null ? ApiResponseStatus.SUCCESS : ApiResponseStatus.FAILED,
+                        before != null ? null : "Transaction not found with id : " + transactionId));
+                if (before != null) {
+                    deletedIds.add(transactionId);
+                    changes.add(TransactionChange.deleted(before));
+                }
+            }
+            if (!deletedIds.isEmpty()) {
+                transactionRepository.deleteAllByIdIn(deletedIds);
+            }
+
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(new TransactionsChangedEvent(changes));
+            }
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            results
+                    )
+            );
+        } catch (Exception e) {
+            log.error("Error happen when processing transaction batch: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to save your transactions, Try again later!");
+        }
     }
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> getAllTransactions(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException {
-        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transaction_id");
-
-        Page<Transaction> transactions = transactionRepository.findAll(pageable, searchKey);
+        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transactionId");
+
+        Page<TransactionView> transactions;
+        if (transactionSearchIndex.isSearchable(searchKey)) {
+            IdPage page = transactionSearchIndex.pageAll(searchKey, (int) pageable.getOffset(), pageSize);
+            transactions = new PageImpl<>(findViewsInOrder(page.ids()), pageable, page.total());
+        } else {
+            transactions = transactionRepository.findAll(pageable, searchKey);
+        }
 
         try {
             if (transactions.getTotalElements() == 0) {
@@ -226,8 +526,8 @@ public class TransactionServiceImpl implements TransactionService {
             }
             List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
 
-            for (Transaction transaction: transactions) {
-                transactionResponseDtoList.add(transactionToTransactionResponseDto(transaction));
+            for (TransactionView transaction: transactions) {
+                transactionResponseDtoList.add(transactionViewToTransactionResponseDto(transaction));
             }
 
             return ResponseEntity.status(HttpStatus.OK).body(
@@ -247,6 +547,109 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getAllTransactionsSlice(int pageNumber, int pageSize, String searchKey) throws TransactionServiceLogicException {
+        Pageable pageable =  PageRequest.of(pageNumber, pageSize).withSort(Sort.Direction.DESC, "transactionId");
+
+        Slice<TransactionView> transactions;
+        String approximateTotal;
+        if (transactionSearchIndex.isSearchable(searchKey)) {
+            IdPage page = transactionSearchIndex.pageAll(searchKey, (int) pageable.getOffset(), pageSize + 1);
+            boolean hasNext = page.ids().size() > pageSize;
+            List<Long> ids = hasNext ? page.ids().subList(0, pageSize) : page.ids();
+            transactions = new SliceImpl<>(findViewsInOrder(ids), pageable, hasNext);
+            approximateTotal = String.valueOf(page.total());
+        } else {
+            transactions = transactionRepository.sliceAll(pageable, searchKey == null ? "" : searchKey);
+            approximateTotal = searchKey == null || searchKey.isEmpty() ? transactionCountEstimator.approximateTotal() : null;
+        }
+
+        try {
+            List<TransactionResponseDto> transactionResponseDtoList = new ArrayList<>();
+
+            for (TransactionView transaction: transactions) {
+                transactionResponseDtoList.add(transactionViewToTransactionResponseDto(transaction));
+            }
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new SliceResponseDto<>(
+                                    transactionResponseDtoList,
+                                    pageNumber,
+                                    transactions.hasNext(),
+                                    approximateTotal
+                            )
+                    )
+            );
+        }catch (Exception e) {
+            log.error("Failed to fetch All transactions: " + e.getMessage());
+            throw new TransactionServiceLogicException("Failed to fetch All transactions: Try again later!");
+        }
+    }
+
+    private List<TransactionView> findViewsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TransactionView> viewsById = transactionRepository.findViewsByIds(ids).stream()
+                .collect(Collectors.toMap(TransactionView::transactionId, view -> view));
+        List<TransactionView> views = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TransactionView view = viewsById.get(id);
+            if (view != null) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    private void collectReferences(TransactionRequestDto transactionRequestDto, Set<String> emails, Set<Integer> categoryIds) {
+        if (transactionRequestDto == null) {
+            return;
+        }
+        if (transactionRequestDto.getUserEmail() != null) {
+            emails.add(transactionRequestDto.getUserEmail());
+        }
+        categoryIds.add(transactionRequestDto.getCategoryId());
+    }
+
+    private String validateBatchItem(TransactionRequestDto transactionRequestDto,
+                                     Map<String, User> users, Map<Integer, Category> categories) {
+        if (transactionRequestDto == null) {
+            return "Transaction details are required!";
+        }
+        Set<ConstraintViolation<TransactionRequestDto>> violations = validator.validate(transactionRequestDto);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!users.containsKey(transactionRequestDto.getUserEmail())) {
+            return "User not found with email " + transactionRequestDto.getUserEmail();
+        }
+        if (!categories.containsKey(transactionRequestDto.getCategoryId())) {
+            return "Category not found with id " + transactionRequestDto.getCategoryId();
+        }
+        return null;
+    }
+
+    private NewTransactionRow toTransactionRow(TransactionRequestDto transactionRequestDto,
+                                               Map<String, User> users, Map<Integer, Category> categories) {
+        return new NewTransactionRow(
+                users.get(transactionRequestDto.getUserEmail()).getId(),
+                categories.get(transactionRequestDto.getCategoryId()).getCategoryId(),
+                transactionRequestDto.getDescription(),
+                transactionRequestDto.getAmount(),
+                transactionRequestDto.getDate()
+        );
+    }
+
+    private TransactionSnapshot toSnapshot(Long transactionId, NewTransactionRow row, String email,
+                                           Map<Integer, Category> categories) {
+        return TransactionSnapshot.of(transactionId, row.userId(), email, categories.get(row.categoryId()),
+                row.description(), row.amount(), row.date());
+    }
+
     private Transaction TransactionRequestDtoToTransaction(TransactionRequestDto transactionRequestDto) throws UserNotFoundException, CategoryNotFoundException {
         return new Transaction(
                 userService.findByEmail(transactionRequestDto.getUserEmail()),
@@ -270,6 +673,19 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
+    private TransactionResponseDto transactionViewToTransactionResponseDto(TransactionView transaction) {
+        return new TransactionResponseDto(
+                transaction.transactionId(),
+                transaction.categoryId(),
+                transaction.categoryName(),
+                transaction.transactionType(),
+                transaction.description(),
+                transaction.amount(),
+                transaction.date(),
+                transaction.userEmail()
+        );
+    }
+
     private Map<String, List<TransactionResponseDto>> groupTransactionsByDate(List<TransactionResponseDto> transactionResponseDtoList) {
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
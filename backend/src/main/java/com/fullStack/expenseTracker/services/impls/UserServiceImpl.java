@@ -1,6 +1,8 @@
 package com.fullStack.expenseTracker.services.impls;
 
 
+import com.fullStack.expenseTracker.dto.projections.UserActivityView;
+import com.fullStack.expenseTracker.dto.reponses.CursorPageResponseDto;
 import com.fullStack.expenseTracker.dto.reponses.PageResponseDto;
 import com.fullStack.expenseTracker.services.UserService;
 import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
@@ -8,11 +10,11 @@ import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.dto.reponses.UserResponseDto;
 import com.fullStack.expenseTracker.exceptions.*;
 import com.fullStack.expenseTracker.factories.RoleFactory;
-import com.fullStack.expenseTracker.enums.ETransactionType;
 import com.fullStack.expenseTracker.models.User;
-import com.fullStack.expenseTracker.repository.TransactionRepository;
-import com.fullStack.expenseTracker.repository.TransactionTypeRepository;
+import com.fullStack.expenseTracker.repository.MonthlyRollupRepository;
 import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.search.IdPage;
+import com.fullStack.expenseTracker.search.UserDirectoryIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,13 +32,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 
 @Component
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final String SORT_BY_SPEND = "spend";
+
+    private static final String SORT_BY_ACTIVITY = "activity";
+
     @Autowired
     private UserRepository userRepository;
 
@@ -44,35 +50,64 @@ public class UserServiceImpl implements UserService {
     RoleFactory roleFactory;
 
     @Autowired
-    private TransactionRepository transactionRepository;
+    private MonthlyRollupRepository monthlyRollupRepository;
 
     @Autowired
-    private TransactionTypeRepository transactionTypeRepository;
+    private UserDirectoryIndex userDirectoryIndex;
 
     @Value("${app.user.profile.upload.dir}")
     private String userProfileUploadDir;
 
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> getAllUsers(int pageNumber, int pageSize, String searchKey)
+    public ResponseEntity<ApiResponseDto<?>> getAllUsers(int pageNumber, int pageSize, String searchKey, String sortBy)
             throws RoleNotFoundException, UserServiceLogicException {
 
         Pageable pageable =  PageRequest.of(pageNumber, pageSize);
-
-        Page<User> users = userRepository.findAll(pageable, roleFactory.getInstance("user").getId(), searchKey);
+        int roleId = roleFactory.getInstance("user").getId();
+        YearMonth currentMonth = YearMonth.now();
+        String sort = sortBy == null ? "" : sortBy.trim().toLowerCase(Locale.ROOT);
 
         try {
-            List<UserResponseDto> userResponseDtoList = new ArrayList<>();
+            if (SORT_BY_SPEND.equals(sort) || SORT_BY_ACTIVITY.equals(sort)) {
+                Page<UserActivityView> users = userRepository.findAllByMonthActivity(pageable, roleId, searchKey,
+                        currentMonth.getYear(), currentMonth.getMonthValue(), sort);
+
+                List<UserResponseDto> userResponseDtoList = users.stream()
+                        .map(u -> new UserResponseDto(u.getId(), u.getUsername(), u.getEmail(),
+                                Boolean.TRUE.equals(u.getEnabled()),
+                                u.getExpense().doubleValue(),
+                                u.getIncome().doubleValue(),
+                                u.getNoOfTransactions().intValue()))
+                        .toList();
+
+                return ResponseEntity.status(HttpStatus.OK).body(
+                        new ApiResponseDto<>(
+                                ApiResponseStatus.SUCCESS,
+                                HttpStatus.OK,
+                                new PageResponseDto<>(userResponseDtoList, users.getTotalPages(), users.getTotalElements())
+                        )
+                );
+            }
 
-            for (User u: users) {
-                userResponseDtoList.add(userToUserResponseDto(u));
+            List<User> users;
+            long totalNoOfRecords;
+            if (userDirectoryIndex.isReady()) {
+                IdPage page = userDirectoryIndex.page(searchKey, pageNumber * pageSize, pageSize);
+                users = findAllInIdOrder(page.ids());
+                totalNoOfRecords = page.total();
+            } else {
+                Page<User> page = userRepository.findAll(pageable, roleId, searchKey);
+                users = page.getContent();
+                totalNoOfRecords = page.getTotalElements();
             }
 
             return ResponseEntity.status(HttpStatus.OK).body(
                     new ApiResponseDto<>(
                             ApiResponseStatus.SUCCESS,
                             HttpStatus.OK,
-                            new PageResponseDto<>(userResponseDtoList, users.getTotalPages(), users.getTotalElements())
+                            new PageResponseDto<>(usersToUserResponseDtos(users),
+                                    (int) ((totalNoOfRecords + pageSize - 1) / pageSize), totalNoOfRecords)
                     )
             );
         }catch (Exception e) {
@@ -81,6 +116,41 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getUsersAfter(long afterId, int pageSize, String searchKey)
+            throws RoleNotFoundException, UserServiceLogicException {
+
+        int roleId = roleFactory.getInstance("user").getId();
+
+        try {
+            List<User> users;
+            if (userDirectoryIndex.isReady()) {
+                users = findAllInIdOrder(userDirectoryIndex.searchAfter(searchKey, afterId, pageSize + 1));
+            } else {
+                users = userRepository.findAllAfter(roleId, searchKey == null ? "" : searchKey, afterId,
+                        PageRequest.of(0, pageSize + 1));
+            }
+
+            boolean hasMore = users.size() > pageSize;
+            if (hasMore) {
+                users = users.subList(0, pageSize);
+            }
+
+            String nextCursor = hasMore ? String.valueOf(users.get(users.size() - 1).getId()) : null;
+
+            return ResponseEntity.status(HttpStatus.OK).body(
+                    new ApiResponseDto<>(
+                            ApiResponseStatus.SUCCESS,
+                            HttpStatus.OK,
+                            new CursorPageResponseDto<>(usersToUserResponseDtos(users), nextCursor, hasMore)
+                    )
+            );
+        }catch (Exception e) {
+            log.error("Failed to scroll users: " + e.getMessage());
+            throw new UserServiceLogicException("Failed to fetch All users: Try again later!");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> enableOrDisableUser(long userId)
             throws UserNotFoundException, UserServiceLogicException {
@@ -213,26 +283,40 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with email " +  email));
     }
 
-    private UserResponseDto userToUserResponseDto(User user) {
+    private List<User> findAllInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<User> users = new ArrayList<>(userRepository.findAllById(ids));
+        users.sort(Comparator.comparing(User::getId));
+        return users;
+    }
+
+    private List<UserResponseDto> usersToUserResponseDtos(List<User> users) {
+        Map<Long, Object[]> activityByUserId = new HashMap<>();
+        if (!users.isEmpty()) {
+            YearMonth currentMonth = YearMonth.now();
+            List<Long> userIds = users.stream().map(User::getId).toList();
+            monthlyRollupRepository.findMonthActivityByUsers(userIds, currentMonth.getYear(), currentMonth.getMonthValue())
+                    .forEach(row -> activityByUserId.put(((Number) row[0]).longValue(), row));
+        }
+
+        List<UserResponseDto> userResponseDtoList = new ArrayList<>();
+        for (User u: users) {
+            userResponseDtoList.add(userToUserResponseDto(u, activityByUserId.get(u.getId())));
+        }
+        return userResponseDtoList;
+    }
+
+    private UserResponseDto userToUserResponseDto(User user, Object[] activity) {
         return new UserResponseDto(
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.isEnabled(),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_EXPENSE).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalByUserAndTransactionType(
-                        user.getId(),
-                        transactionTypeRepository.findByTransactionTypeName(ETransactionType.TYPE_INCOME).getTransactionTypeId(),
-                        LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear()
-                ),
-                transactionRepository.findTotalNoOfTransactionsByUser(user.getId(), LocalDate.now().getMonthValue(),
-                        LocalDate.now().getYear())
+                activity == null ? 0.0 : ((Number) activity[1]).doubleValue(),
+                activity == null ? 0.0 : ((Number) activity[2]).doubleValue(),
+                activity == null ? 0 : ((Number) activity[3]).intValue()
         );
     }
 
@@ -0,0 +1,128 @@
+package com.fullStack.expenseTracker.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Size-bounded LRU map whose entries also expire a fixed time after they were written.
+ * All operations are synchronized; the cache is meant for small values looked up on hot paths
+ * where an external cache would cost more than the work it saves.
+ */
+public class BoundedTtlCache<K, V> {
+
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxEntries;
+
+    private final long ttlMillis;
+
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    private long expirations;
+
+    public BoundedTtlCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, System::currentTimeMillis);
+    }
+
+    public BoundedTtlCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and ttl must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+        evictOverflow();
+    }
+
+    /**
+     * Stores the value unless a live entry exists, returning that entry's value, or null when the
+     * new value was stored.
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        return entry == null ? null : entry.value();
+    }
+
+    public synchronized int removeIf(Predicate<K> predicate) {
+        int removed = 0;
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, expirations, entries.size());
+    }
+
+    private void evictOverflow() {
+        long now = clock.getAsLong();
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            iterator.remove();
+            if (eldest.getValue().expiresAt() <= now) {
+                expirations++;
+            } else {
+                evictions++;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullStack.expenseTracker.utils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Half-open date range [start, end) covering one calendar month. Report queries compare the
+ * raw date column against these bounds so the (user_id, date) index prefix can be range-scanned,
+ * which MONTH(date) / YEAR(date) predicates prevent.
+ */
+public record MonthRange(LocalDate start, LocalDate end) {
+
+    public static MonthRange of(int year, int month) {
+        return of(YearMonth.of(year, month));
+    }
+
+    public static MonthRange of(YearMonth yearMonth) {
+        return new MonthRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    public static MonthRange current() {
+        return of(YearMonth.now());
+    }
+}
@@ -0,0 +1,46 @@
+package com.fullStack.expenseTracker.utils;
+
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over a user's transactions.
+ * Encodes the (date, transactionId) of the last row handed out, so the next page
+ * can seek past it on the (user_id, date, transaction_id) index instead of using OFFSET.
+ */
+public record TransactionCursor(LocalDate date, long transactionId) {
+
+    public static final TransactionCursor START = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    public static TransactionCursor of(TransactionView transaction) {
+        return new TransactionCursor(transaction.date(), transaction.transactionId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed transaction cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed transaction cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = date + "|" + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quarter-wide category totals from the column store against the equivalent grouped SQL on an
+ * in-memory H2 database. Run {@link #main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryTotalsBenchmark {
+
+    private static final String CATEGORY_TOTALS_SQL = "SELECT t.category_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "WHERE t.date >= ? AND t.date < ? AND c.transaction_type_id = ? " +
+            "GROUP BY t.category_id";
+
+    private static final int CATEGORIES = 18;
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+
+    private static final LocalDate QUARTER_START = LocalDate.of(2024, 4, 1);
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private TransactionColumnStore store;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        store = new TransactionColumnStore();
+        connection = DriverManager.getConnection("jdbc:h2:mem:benchmark" + rows + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE category (category_id INT PRIMARY KEY, transaction_type_id INT)");
+            statement.execute("CREATE TABLE transaction (transaction_id BIGINT PRIMARY KEY, user_id BIGINT, " +
+                    "category_id INT, amount DOUBLE, date DATE)");
+            statement.execute("CREATE INDEX idx_transaction_date ON transaction (date)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO category VALUES (?, ?)")) {
+            for (int categoryId = 1; categoryId <= CATEGORIES; categoryId++) {
+                insert.setInt(1, categoryId);
+                insert.setInt(2, categoryId <= 12 ? 1 : 2);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<TransactionSnapshot> loaded = new ArrayList<>(10_000);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO transaction VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                long userId = random.nextInt(5_000) + 1;
+                int categoryId = random.nextInt(CATEGORIES) + 1;
+                double amount = random.nextInt(100_000) / 100.0;
+                LocalDate date = FIRST_DAY.plusDays(random.nextInt(730));
+
+                insert.setLong(1, id);
+                insert.setLong(2, userId);
+                insert.setInt(3, categoryId);
+                insert.setDouble(4, amount);
+                insert.setObject(5, date);
+                insert.addBatch();
+                int transactionTypeId = categoryId <= 12 ? 1 : 2;
+                loaded.add(new TransactionSnapshot((long) id, userId, "user" + userId + "@example.com", categoryId,
+                        "c" + categoryId, transactionTypeId, transactionTypeId == 1 ? "TYPE_EXPENSE" : "TYPE_INCOME",
+                        "t" + id, amount, date));
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                    store.onTransactionsChanged(TransactionsChangedEvent.created(loaded));
+                    loaded = new ArrayList<>(10_000);
+                }
+            }
+            insert.executeBatch();
+            store.onTransactionsChanged(TransactionsChangedEvent.created(loaded));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void columnStore(Blackhole blackhole) {
+        blackhole.consume(store.categoryTotals(QUARTER_START, QUARTER_START.plusMonths(3), 1));
+    }
+
+    @Benchmark
+    public void sql(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(CATEGORY_TOTALS_SQL)) {
+            query.setObject(1, QUARTER_START);
+            query.setObject(2, QUARTER_START.plusMonths(3));
+            query.setInt(3, 1);
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getInt(1));
+                    blackhole.consume(resultSet.getDouble(2));
+                    blackhole.consume(resultSet.getLong(3));
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CategoryTotalsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
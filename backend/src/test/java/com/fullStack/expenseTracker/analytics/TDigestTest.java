@@ -0,0 +1,47 @@
+package com.fullStack.expenseTracker.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TDigestTest {
+
+    @Test
+    @DisplayName("quantiles of a merged digest stay close to the exact ranks with bounded size")
+    void quantile_afterMerge() {
+        TDigest odd = new TDigest(100);
+        TDigest even = new TDigest(100);
+        for (int value = 1; value <= 100_000; value++) {
+            (value % 2 == 0 ? even : odd).add(value);
+        }
+
+        TDigest merged = new TDigest(100);
+        merged.merge(odd);
+        merged.merge(even);
+
+        assertEquals(100_000, merged.count());
+        assertEquals(50_000, merged.quantile(0.5), 500);
+        assertEquals(90_000, merged.quantile(0.9), 300);
+        assertEquals(99_000, merged.quantile(0.99), 100);
+        assertEquals(1, merged.quantile(0), 0);
+        assertEquals(100_000, merged.quantile(1), 0);
+        assertTrue(merged.centroidCount() < 200);
+    }
+
+    @Test
+    @DisplayName("an empty digest has no quantiles and a shuffled stream matches the sorted one")
+    void quantile_emptyAndUnordered() {
+        assertTrue(Double.isNaN(new TDigest(100).quantile(0.5)));
+
+        TDigest digest = new TDigest(50);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            digest.add(random.nextInt(1000));
+        }
+        assertEquals(500, digest.quantile(0.5), 20);
+    }
+}
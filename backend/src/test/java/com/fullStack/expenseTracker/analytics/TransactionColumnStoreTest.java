@@ -0,0 +1,110 @@
+package com.fullStack.expenseTracker.analytics;
+
+import com.fullStack.expenseTracker.analytics.TransactionColumnStore.CategoryTotal;
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionColumnStoreTest {
+
+    private final TransactionColumnStore store = new TransactionColumnStore();
+
+    private static TransactionSnapshot snapshot(long id, int categoryId, double amount, LocalDate date) {
+        return snapshot(id, categoryId, 1, amount, date);
+    }
+
+    private static TransactionSnapshot snapshot(long id, int categoryId, int transactionTypeId, double amount, LocalDate date) {
+        return new TransactionSnapshot(id, 1L, "user@example.com", categoryId, "c" + categoryId, transactionTypeId,
+                transactionTypeId == 2 ? "TYPE_INCOME" : "TYPE_EXPENSE", "t" + id, amount, date);
+    }
+
+    private void created(TransactionSnapshot... snapshots) {
+        store.onTransactionsChanged(TransactionsChangedEvent.created(List.of(snapshots)));
+    }
+
+    @Test
+    @DisplayName("totals include whole and partial months of the half-open range and honour the type filter")
+    void categoryTotals_respectsRangeAndType() {
+        created(snapshot(1, 3, 10.25, LocalDate.of(2024, 1, 31)),
+                snapshot(2, 3, 5.00, LocalDate.of(2024, 2, 15)),
+                snapshot(3, 4, 7.50, LocalDate.of(2024, 3, 31)),
+                snapshot(4, 4, 100, LocalDate.of(2024, 4, 1)),
+                snapshot(5, 9, 2, 900, LocalDate.of(2024, 2, 1)));
+
+        List<CategoryTotal> expenses = store.categoryTotals(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 4, 1), 1);
+
+        assertEquals(List.of(new CategoryTotal(3, 1525, 2), new CategoryTotal(4, 750, 1)), expenses);
+        assertEquals(3, store.categoryTotals(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 1), null).size());
+        assertTrue(store.categoryTotals(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 1), null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("committed updates move a row between months and deletes drop it")
+    void onTransactionsChanged_appliesUpdatesAndDeletes() {
+        TransactionSnapshot original = snapshot(1, 3, 20, LocalDate.of(2024, 1, 10));
+        TransactionSnapshot moved = snapshot(1, 3, 25, LocalDate.of(2024, 2, 10));
+        TransactionSnapshot other = snapshot(2, 3, 5, LocalDate.of(2024, 2, 11));
+
+        store.onTransactionsChanged(TransactionsChangedEvent.created(List.of(original, other)));
+        store.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.updated(original, moved)));
+
+        assertTrue(store.categoryTotals(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), null).isEmpty());
+        assertEquals(List.of(new CategoryTotal(3, 3000, 2)),
+                store.categoryTotals(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), null));
+
+        store.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.deleted(other)));
+
+        assertEquals(List.of(new CategoryTotal(3, 2500, 1)),
+                store.categoryTotals(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), null));
+    }
+
+    @Test
+    @DisplayName("amount digests merge across months and are rebuilt after a delete")
+    void amountDigests_mergeMonthsAndFollowDeletes() {
+        List<TransactionSnapshot> snapshots = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            snapshots.add(snapshot(i, 3, i, LocalDate.of(2024, 1 + i % 2, 5)));
+        }
+        store.onTransactionsChanged(TransactionsChangedEvent.created(snapshots));
+        int january = TransactionColumnStore.monthIndexOf(LocalDate.of(2024, 1, 1));
+        int february = TransactionColumnStore.monthIndexOf(LocalDate.of(2024, 2, 1));
+
+        TDigest digest = store.amountDigests(january, february, 3).get(3);
+        assertEquals(100, digest.count());
+        assertEquals(5050, digest.quantile(0.5), 100);
+        assertEquals(100, store.amountDigests(january, january, null).get(3).count() * 2);
+
+        store.onTransactionsChanged(TransactionsChangedEvent.of(
+                TransactionChange.deleted(snapshot(100, 3, 100, LocalDate.of(2024, 1, 5)))));
+        created(snapshot(101, 3, 1, LocalDate.of(2024, 1, 6)));
+
+        TDigest afterDelete = store.amountDigests(january, february, null).get(3);
+        assertEquals(100, afterDelete.count());
+        assertEquals(9900, afterDelete.quantile(1), 0);
+    }
+
+    @Test
+    @DisplayName("a category moved to another transaction type is filed under the new type")
+    void onCategoryChanged_movesRowsToNewType() {
+        created(snapshot(1, 3, 10, LocalDate.of(2024, 1, 5)),
+                snapshot(2, 3, 20, LocalDate.of(2024, 2, 5)),
+                snapshot(3, 4, 5, LocalDate.of(2024, 2, 6)));
+
+        store.onCategoryChanged(new CategoryChangedEvent(3, "c3", 1, "c3", 2, "TYPE_INCOME"));
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 1);
+        assertEquals(List.of(new CategoryTotal(4, 500, 1)), store.categoryTotals(from, to, 1));
+        assertEquals(List.of(new CategoryTotal(3, 3000, 2)), store.categoryTotals(from, to, 2));
+    }
+}
@@ -0,0 +1,175 @@
+package com.fullStack.expenseTracker.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.repository.IdempotencyKeyRepository;
+import com.fullStack.expenseTracker.services.IdempotencyService;
+import com.fullStack.expenseTracker.services.impls.IdempotencyServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IdempotencyInterceptor Tests")
+class IdempotencyInterceptorTest {
+
+    private static final String CREATED_BODY = "{\"status\":\"SUCCESS\",\"response\":\"created\"}";
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HandlerMethod handler = handler();
+
+    static class Handler {
+
+        @Idempotent
+        public void create() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0} store")
+    @ValueSource(strings = {"memory", "database"})
+    @DisplayName("the first call runs the handler and a retry replays the stored response without it")
+    void retry_replaysStoredResponse(String store) throws Exception {
+        IdempotencyService service = service(store);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletRequest firstRequest = request("key-1", "{\"amount\":12}");
+
+        assertTrue(interceptor(service).preHandle(wrap(firstRequest), first, handler));
+        complete(service, firstRequest, first, 201);
+
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        assertFalse(interceptor(replica(store, service)).preHandle(wrap(request("key-1", "{\"amount\":12}")), retry, handler));
+        assertEquals(201, retry.getStatus());
+        assertEquals("true", retry.getHeader(IdempotencyInterceptor.REPLAYED_HEADER));
+        assertEquals(CREATED_BODY, retry.getContentAsString());
+    }
+
+    @ParameterizedTest(name = "{0} store")
+    @ValueSource(strings = {"memory", "database"})
+    @DisplayName("a retry while the first request is still running gets 409")
+    void retryInFlight_getsConflict(String store) throws Exception {
+        IdempotencyService service = service(store);
+        assertTrue(interceptor(service).preHandle(wrap(request("key-2", "{}")), new MockHttpServletResponse(), handler));
+
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        assertFalse(interceptor(replica(store, service)).preHandle(wrap(request("key-2", "{}")), retry, handler));
+        assertEquals(409, retry.getStatus());
+    }
+
+    @ParameterizedTest(name = "{0} store")
+    @ValueSource(strings = {"memory", "database"})
+    @DisplayName("a request that fails releases its key so a retry runs the handler again")
+    void failedRequest_releasesKey(String store) throws Exception {
+        IdempotencyService service = service(store);
+        IdempotencyInterceptor interceptor = interceptor(service);
+        MockHttpServletRequest failed = request("key-3", "{}");
+        assertTrue(interceptor.preHandle(wrap(failed), new MockHttpServletResponse(), handler));
+        interceptor.afterCompletion(failed, new MockHttpServletResponse(), handler, new IllegalStateException("boom"));
+
+        assertTrue(interceptor(replica(store, service)).preHandle(wrap(request("key-3", "{}")), new MockHttpServletResponse(), handler));
+    }
+
+    @ParameterizedTest(name = "{0} store")
+    @ValueSource(strings = {"memory", "database"})
+    @DisplayName("reusing a key with a different body gets 422 instead of the first response")
+    void differentBody_isRejected(String store) throws Exception {
+        IdempotencyService service = service(store);
+        MockHttpServletRequest firstRequest = request("key-4", "{\"amount\":12}");
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor(service).preHandle(wrap(firstRequest), first, handler));
+        complete(service, firstRequest, first, 201);
+
+        MockHttpServletResponse reused = new MockHttpServletResponse();
+        assertFalse(interceptor(replica(store, service)).preHandle(wrap(request("key-4", "{\"amount\":99}")), reused, handler));
+        assertEquals(422, reused.getStatus());
+        assertTrue(reused.getContentAsString().contains("different request"));
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/mypockit/transaction/new");
+        request.addHeader(IdempotencyInterceptor.HEADER, key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static CachedBodyRequest wrap(MockHttpServletRequest request) throws Exception {
+        return new CachedBodyRequest(request);
+    }
+
+    private void complete(IdempotencyService service, MockHttpServletRequest request, MockHttpServletResponse response,
+                          int status) throws Exception {
+        response.setStatus(status);
+        IdempotencyResponseAdvice advice = new IdempotencyResponseAdvice();
+        ReflectionTestUtils.setField(advice, "idempotencyService", provider(service));
+        ReflectionTestUtils.setField(advice, "objectMapper", objectMapper);
+        advice.beforeBodyWrite(objectMapper.readValue(CREATED_BODY, Map.class),
+                new MethodParameter(Handler.class.getMethod("create"), -1), MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+    }
+
+    private IdempotencyInterceptor interceptor(IdempotencyService service) {
+        return new IdempotencyInterceptor(provider(service), objectMapper);
+    }
+
+    private static org.springframework.beans.factory.ObjectProvider<IdempotencyService> provider(IdempotencyService service) {
+        return new StaticListableBeanFactory(Map.of("idempotencyService", service)).getBeanProvider(IdempotencyService.class);
+    }
+
+    private IdempotencyService service(String store) {
+        IdempotencyServiceImpl service = new IdempotencyServiceImpl();
+        ReflectionTestUtils.setField(service, "idempotencyKeyRepository", idempotencyKeyRepository);
+        ReflectionTestUtils.setField(service, "store", store);
+        ReflectionTestUtils.setField(service, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    /**
+     * The database store is shared between instances, so retries are sent to a fresh instance to prove the
+     * outcome comes from the table rather than the local cache.
+     */
+    private IdempotencyService replica(String store, IdempotencyService service) {
+        return "database".equals(store) ? service(store) : service;
+    }
+
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(new Handler(), Handler.class.getMethod("create"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
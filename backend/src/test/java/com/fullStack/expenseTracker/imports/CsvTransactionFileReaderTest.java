@@ -0,0 +1,79 @@
+package com.fullStack.expenseTracker.imports;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CsvTransactionFileReader Tests")
+class CsvTransactionFileReaderTest {
+
+    @Test
+    @DisplayName("reads columns in any order, including quoted fields, type and the optional category")
+    void next_readsRows() throws IOException {
+        try (CsvTransactionFileReader reader = reader("""
+                \uFEFFAmount,Category,Date,Description,Type
+                -12.50,Food,2024-03-01,"Lunch, with ""friends\"\"\",expense
+
+                1500,,2024-03-02,Salary,TYPE_INCOME
+                """)) {
+            ImportedTransaction lunch = reader.next();
+            assertEquals(2, lunch.lineNumber());
+            assertEquals(LocalDate.of(2024, 3, 1), lunch.date());
+            assertEquals("Lunch, with \"friends\"", lunch.description());
+            assertEquals(-12.5, lunch.amount());
+            assertEquals("Food", lunch.categoryName());
+            assertEquals(ETransactionType.TYPE_EXPENSE, lunch.transactionType());
+            assertNull(lunch.error());
+
+            ImportedTransaction salary = reader.next();
+            assertEquals(4, salary.lineNumber());
+            assertNull(salary.categoryName());
+            assertEquals(ETransactionType.TYPE_INCOME, salary.transactionType());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("bad rows come back as per-row errors and reading continues")
+    void next_reportsRowErrors() throws IOException {
+        try (CsvTransactionFileReader reader = reader("""
+                date,description,amount,type
+                2024-13-01,Bad date,1,
+                2024-03-01,Bad amount,abc,
+                2024-03-01,Too few
+                2024-03-01,Bad type,1,refund
+                2024-03-01,Fine,1,
+                """)) {
+            assertTrue(reader.next().error().startsWith("Invalid date"));
+            assertTrue(reader.next().error().startsWith("Invalid amount"));
+            assertTrue(reader.next().error().startsWith("Expected 4 columns"));
+            assertTrue(reader.next().error().startsWith("Invalid type"));
+            ImportedTransaction fine = reader.next();
+            assertNull(fine.error());
+            assertNull(fine.transactionType());
+            assertEquals(6, fine.lineNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("rejects a file without the required header columns")
+    void constructor_rejectsMissingColumns() {
+        assertThrows(IOException.class, () -> reader("date,amount\n2024-03-01,1\n"));
+        assertThrows(IOException.class, () -> reader(""));
+    }
+
+    private static CsvTransactionFileReader reader(String content) throws IOException {
+        return new CsvTransactionFileReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
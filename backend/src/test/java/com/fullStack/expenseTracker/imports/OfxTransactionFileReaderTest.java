@@ -0,0 +1,74 @@
+package com.fullStack.expenseTracker.imports;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("OfxTransactionFileReader Tests")
+class OfxTransactionFileReaderTest {
+
+    @Test
+    @DisplayName("reads SGML records, falling back to MEMO when NAME is missing")
+    void next_readsSgmlRecords() throws IOException {
+        try (OfxTransactionFileReader reader = reader("""
+                OFXHEADER:100
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240301120000[-5:EST]
+                <TRNAMT>-42,10
+                <NAME>Grocery store
+                </STMTTRN>
+                <STMTTRN>
+                <DTPOSTED>20240302
+                <TRNAMT>1500.00
+                <MEMO>Salary
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """)) {
+            ImportedTransaction grocery = reader.next();
+            assertEquals(3, grocery.lineNumber());
+            assertEquals(LocalDate.of(2024, 3, 1), grocery.date());
+            assertEquals(-42.1, grocery.amount());
+            assertEquals("Grocery store", grocery.description());
+            assertNull(grocery.categoryName());
+            assertNull(grocery.transactionType());
+
+            ImportedTransaction salary = reader.next();
+            assertEquals("Salary", salary.description());
+            assertEquals(1500.0, salary.amount());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("reads single-line XML records and reports bad dates and amounts per record")
+    void next_readsXmlAndReportsErrors() throws IOException {
+        try (OfxTransactionFileReader reader = reader("""
+                <STMTTRN><DTPOSTED>2024</DTPOSTED><TRNAMT>1</TRNAMT></STMTTRN>
+                <STMTTRN><DTPOSTED>20240301</DTPOSTED><TRNAMT>abc</TRNAMT></STMTTRN>
+                <STMTTRN><DTPOSTED>20240301</DTPOSTED><TRNAMT>-5</TRNAMT><NAME>Coffee</NAME></STMTTRN>
+                """)) {
+            assertTrue(reader.next().error().startsWith("Missing or invalid DTPOSTED"));
+            assertTrue(reader.next().error().startsWith("Invalid TRNAMT"));
+            ImportedTransaction coffee = reader.next();
+            assertNull(coffee.error());
+            assertEquals("Coffee", coffee.description());
+            assertEquals(3, coffee.lineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    private static OfxTransactionFileReader reader(String content) {
+        return new OfxTransactionFileReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
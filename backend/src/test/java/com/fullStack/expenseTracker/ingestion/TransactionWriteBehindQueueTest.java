@@ -0,0 +1,195 @@
+package com.fullStack.expenseTracker.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.ingestion.TransactionWriteBehindQueue.PendingTransaction;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionWriteBehindQueueTest {
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private TransactionWriteBehindQueue queue;
+
+    @TempDir
+    Path tempDir;
+
+    private Path spillFile;
+
+    private final Category groceries = new Category(3, "Groceries",
+            new TransactionType(1, ETransactionType.TYPE_EXPENSE), true);
+
+    @BeforeEach
+    void setUp() {
+        spillFile = tempDir.resolve("spill.ndjson");
+        ReflectionTestUtils.setField(queue, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(queue, "enabled", true);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 100);
+        ReflectionTestUtils.setField(queue, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(queue, "flushIntervalMs", 1L);
+        ReflectionTestUtils.setField(queue, "retryInitialBackoffMs", 1L);
+        ReflectionTestUtils.setField(queue, "retryMaxBackoffMs", 5L);
+        ReflectionTestUtils.setField(queue, "shutdownWaitMs", 200L);
+        ReflectionTestUtils.setField(queue, "spillFile", spillFile.toString());
+        queue.init();
+
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> work = invocation.getArgument(0);
+            work.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("a failing commit is retried until it succeeds and new rows are refused meanwhile")
+    void write_retriesUntilCommitted() throws Exception {
+        when(transactionJdbcRepository.batchInsert(anyList()))
+                .thenThrow(new RecoverableDataAccessException("connection lost"))
+                .thenThrow(new RecoverableDataAccessException("connection lost"))
+                .thenReturn(List.of(41L));
+        ReflectionTestUtils.setField(queue, "retryInitialBackoffMs", 100L);
+        ReflectionTestUtils.setField(queue, "retryMaxBackoffMs", 100L);
+        queue.start();
+
+        assertTrue(queue.offer(pending("a")));
+        waitFor(queue::isFailing);
+        assertFalse(queue.offer(pending("b")));
+        waitFor(() -> !queue.isFailing());
+        queue.stop();
+
+        verify(transactionJdbcRepository, times(3)).batchInsert(anyList());
+        verify(eventPublisher).publishEvent(any(TransactionsChangedEvent.class));
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    @DisplayName("rows still unwritten at shutdown are spilled and written on the next start")
+    void stop_spillsAndStartRecovers() throws Exception {
+        when(transactionJdbcRepository.batchInsert(anyList()))
+                .thenThrow(new RecoverableDataAccessException("database down"));
+        queue.start();
+        assertTrue(queue.offer(pending("a")));
+        waitFor(queue::isFailing);
+        queue.stop();
+
+        assertEquals(1, Files.readAllLines(spillFile).size());
+
+        TransactionWriteBehindQueue restarted = new TransactionWriteBehindQueue();
+        ReflectionTestUtils.setField(restarted, "transactionJdbcRepository", transactionJdbcRepository);
+        ReflectionTestUtils.setField(restarted, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(restarted, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(restarted, "categoryRepository", categoryRepository);
+        for (String field : List.of("objectMapper", "enabled", "queueCapacity", "maxBatchSize", "flushIntervalMs",
+                "retryInitialBackoffMs", "retryMaxBackoffMs", "shutdownWaitMs", "spillFile")) {
+            ReflectionTestUtils.setField(restarted, field, ReflectionTestUtils.getField(queue, field));
+        }
+        restarted.init();
+        reset(transactionJdbcRepository);
+        when(transactionJdbcRepository.batchInsert(anyList())).thenReturn(List.of(42L));
+        when(categoryRepository.findById(3)).thenReturn(Optional.of(groceries));
+
+        restarted.start();
+        waitFor(() -> !Files.exists(spillFile));
+        restarted.stop();
+
+        verify(transactionJdbcRepository).batchInsert(List.of(
+                new NewTransactionRow(7L, 3, "a", 12.5, LocalDate.of(2024, 5, 1))));
+        verify(eventPublisher).publishEvent(any(TransactionsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("a rejected group commit is split: violating rows go to the rejected file, transient failures are retried")
+    void write_splitsRejectedGroupCommit() throws Exception {
+        ReflectionTestUtils.setField(queue, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(queue, "flushIntervalMs", 1000L);
+        AtomicBoolean flakyFailed = new AtomicBoolean();
+        when(transactionJdbcRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            List<NewTransactionRow> rows = invocation.getArgument(0);
+            if (rows.size() > 1 || rows.get(0).description().equals("bad")) {
+                throw new DataIntegrityViolationException("foreign key violation");
+            }
+            if (rows.get(0).description().equals("flaky") && flakyFailed.compareAndSet(false, true)) {
+                throw new RecoverableDataAccessException("connection lost");
+            }
+            return List.of(50L);
+        });
+        queue.start();
+
+        assertTrue(queue.offer(pending("a")));
+        assertTrue(queue.offer(pending("bad")));
+        assertTrue(queue.offer(pending("flaky")));
+        waitFor(() -> mockingDetails(eventPublisher).getInvocations().size() == 2);
+        queue.stop();
+
+        verify(transactionJdbcRepository, times(1)).batchInsert(argThat(rows -> rows.size() == 3));
+        verify(transactionJdbcRepository, times(1)).batchInsert(List.of(pending("a").row()));
+        verify(transactionJdbcRepository, times(1)).batchInsert(List.of(pending("bad").row()));
+        verify(transactionJdbcRepository, times(2)).batchInsert(List.of(pending("flaky").row()));
+        verify(eventPublisher, times(2)).publishEvent(any(TransactionsChangedEvent.class));
+
+        List<String> rejected = Files.readAllLines(tempDir.resolve("spill.ndjson.rejected"));
+        assertEquals(1, rejected.size());
+        assertTrue(rejected.get(0).contains("bad-id"));
+        assertFalse(queue.isFailing());
+        assertFalse(Files.exists(spillFile));
+    }
+
+    private PendingTransaction pending(String description) {
+        return new PendingTransaction(description + "-id",
+                new NewTransactionRow(7L, 3, description, 12.5, LocalDate.of(2024, 5, 1)),
+                "jane@example.com", groceries);
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
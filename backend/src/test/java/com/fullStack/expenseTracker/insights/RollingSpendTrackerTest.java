@@ -0,0 +1,81 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.insights.RollingSpendTracker.WindowTotals;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RollingSpendTrackerTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private RollingSpendTracker rollingSpendTracker;
+
+    @Test
+    @DisplayName("a day's ring moves totals out of each window as it advances")
+    void ring_slidesWindows() {
+        DailySpendRing ring = new DailySpendRing(100);
+        ring.add(100, 500, false);
+        ring.add(94, 300, false);
+        ring.add(71, 200, false);
+        ring.add(11, 100, false);
+        ring.add(10, 999, false);
+        ring.add(102, 50, true);
+
+        assertEquals(800, ring.expenseCents(0));
+        assertEquals(1000, ring.expenseCents(1));
+        assertEquals(1100, ring.expenseCents(2));
+        assertEquals(0, ring.incomeCents(2));
+
+        ring.advanceTo(102);
+        assertEquals(500, ring.expenseCents(0));
+        assertEquals(800, ring.expenseCents(1));
+        assertEquals(1000, ring.expenseCents(2));
+        assertEquals(50, ring.incomeCents(0));
+
+        ring.advanceTo(400);
+        assertEquals(0, ring.expenseCents(2));
+        assertEquals(0, ring.incomeCents(2));
+    }
+
+    @Test
+    @DisplayName("totals are repaired from the database once and then follow committed writes")
+    void windowTotals_repairsThenFollowsWrites() {
+        LocalDate today = LocalDate.now();
+        when(transactionRepository.findDailyTotalsByUser(eq("user@example.com"), any(), any())).thenReturn(List.of(
+                new Object[]{today, "TYPE_EXPENSE", 40.0, 2L},
+                new Object[]{today.minusDays(20), "TYPE_EXPENSE", 60.0, 1L},
+                new Object[]{today.minusDays(3), "TYPE_INCOME", 1000.0, 1L}));
+
+        assertEquals(new WindowTotals(30, 100, 1000), rollingSpendTracker.windowTotals(1L, "user@example.com").get(1));
+
+        TransactionSnapshot coffee = new TransactionSnapshot(9L, 1L, "user@example.com", 3, "Food", 1, "TYPE_EXPENSE",
+                "coffee", 4.5, today.minusDays(1));
+        rollingSpendTracker.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.created(coffee)));
+
+        List<WindowTotals> totals = rollingSpendTracker.windowTotals(1L, "user@example.com");
+        assertEquals(new WindowTotals(7, 44.5, 1000), totals.get(0));
+        assertEquals(new WindowTotals(90, 104.5, 1000), totals.get(2));
+        verify(transactionRepository, times(1)).findDailyTotalsByUser(any(), any(), any());
+    }
+}
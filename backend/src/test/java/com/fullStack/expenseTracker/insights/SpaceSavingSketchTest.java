@@ -0,0 +1,67 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fullStack.expenseTracker.insights.SpaceSavingSketch.Counter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("heavy payees stay tracked when many light ones compete for counters")
+    void offer_keepsHeavyHitters() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        for (int i = 0; i < 200; i++) {
+            sketch.offer("rent", 50);
+            sketch.offer("groceries", 20);
+            sketch.offer("payee " + i, 1);
+        }
+
+        List<Counter> top = sketch.top(2);
+
+        assertEquals("rent", top.get(0).item());
+        assertEquals("groceries", top.get(1).item());
+        assertTrue(top.get(0).weight() - top.get(0).error() <= 10_000);
+        assertTrue(top.get(0).weight() >= 10_000);
+    }
+
+    @Test
+    @DisplayName("retracting every offer of a payee drops it from the results")
+    void retract_removesPayee() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        sketch.offer("coffee", 4);
+        sketch.offer("coffee", 6);
+        sketch.offer("books", 30);
+
+        sketch.retract("coffee", 4);
+        assertEquals(new Counter("coffee", 6, 1, 0), sketch.top(2).get(1));
+
+        sketch.retract("coffee", 6);
+        assertEquals(List.of(new Counter("books", 30, 1, 0)), sketch.top(5));
+    }
+
+    @Test
+    @DisplayName("a restored sketch continues from the checkpointed counters")
+    void restore_roundTripsCounters() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.offer("rent", 900);
+        sketch.offer("gym", 40);
+
+        SpaceSavingSketch restored = SpaceSavingSketch.restore(3, sketch.counters());
+        restored.offer("gym", 40);
+
+        assertEquals(new Counter("gym", 80, 2, 0), restored.top(2).get(1));
+    }
+
+    @Test
+    @DisplayName("descriptions are reduced to their leading words")
+    void normalize_groupsDescriptions() {
+        assertEquals("uber trip", TopPayeesTracker.normalize("UBER *TRIP 4821"));
+        assertEquals("amazon prime video", TopPayeesTracker.normalize("Amazon Prime Video - monthly"));
+        assertEquals("", TopPayeesTracker.normalize(null));
+    }
+}
@@ -0,0 +1,75 @@
+package com.fullStack.expenseTracker.insights;
+
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.insights.SpendingAnomalyDetector.SpendingAnomaly;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpendingAnomalyDetectorTest {
+
+    private final SpendingAnomalyDetector detector = new SpendingAnomalyDetector(0.1, 3.0, 5, 16);
+
+    private static TransactionSnapshot expense(long id, int categoryId, double amount) {
+        return new TransactionSnapshot(id, 1L, "user@example.com", categoryId, "Groceries", 1, "TYPE_EXPENSE",
+                "t" + id, amount, LocalDate.of(2024, 5, 1).plusDays(id));
+    }
+
+    private void record(TransactionSnapshot snapshot) {
+        detector.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.created(snapshot)));
+    }
+
+    @Test
+    @DisplayName("an expense far above the category's usual amount is flagged once the series has warmed up")
+    void onTransactionsChanged_flagsOutliers() {
+        for (int i = 1; i <= 10; i++) {
+            record(expense(i, 3, 40 + i % 3));
+        }
+        record(expense(11, 4, 500));
+        assertTrue(detector.recentAnomalies(1L, 10).isEmpty());
+
+        record(expense(12, 3, 200));
+
+        List<SpendingAnomaly> anomalies = detector.recentAnomalies(1L, 10);
+        assertEquals(1, anomalies.size());
+        assertEquals(12, anomalies.get(0).transactionId());
+        assertTrue(anomalies.get(0).deviation() > 3);
+    }
+
+    @Test
+    @DisplayName("deleting a flagged expense removes it from the anomalies")
+    void onTransactionsChanged_forgetsDeletedOutliers() {
+        for (int i = 1; i <= 6; i++) {
+            record(expense(i, 3, 50));
+        }
+        TransactionSnapshot outlier = expense(7, 3, 250);
+        record(outlier);
+        assertEquals(1, detector.recentAnomalies(1L, 10).size());
+
+        detector.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.deleted(outlier)));
+
+        assertTrue(detector.recentAnomalies(1L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("the stats table keeps every series across growth")
+    void statsTable_growsWithoutLosingSeries() {
+        EwmaStatsTable table = new EwmaStatsTable(4);
+        for (long userId = 1; userId <= 500; userId++) {
+            table.observe(userId, (int) (userId % 7), userId, 0.5);
+            table.observe(userId, (int) (userId % 7), userId + 2, 0.5);
+        }
+
+        assertEquals(500, table.size());
+        assertEquals(new EwmaStatsTable.Stats(251, 1, 2), table.get(250, 5));
+        assertNull(table.get(250, 6));
+    }
+}
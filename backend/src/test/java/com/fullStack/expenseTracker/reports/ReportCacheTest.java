@@ -0,0 +1,81 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportCacheTest {
+
+    private final ReportCache reportCache = new ReportCache(100, 60_000);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Double load(double value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    @DisplayName("repeat lookups are served from the cache, including null results")
+    void get_servesRepeatLookups() {
+        String owner = ReportCache.ownerOf(1L);
+
+        reportCache.get(owner, "totalByType", "2024-5:1", () -> load(10));
+        reportCache.get(owner, "totalByType", "2024-5:1", () -> load(10));
+        reportCache.get(owner, "transactionCount", "2024-5", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        reportCache.get(owner, "transactionCount", "2024-5", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(2, reportCache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("a change event invalidates the owner's entries under both id and email and leaves others alone")
+    void onTransactionsChanged_invalidatesOnlyAffectedOwner() {
+        reportCache.get(ReportCache.ownerOf(1L), "transactionCount", "2024-5", () -> load(1));
+        reportCache.get(ReportCache.ownerOf("A@example.com"), "categoryBreakdown", "2024-5", () -> load(2));
+        reportCache.get(ReportCache.ownerOf(2L), "transactionCount", "2024-5", () -> load(3));
+
+        TransactionSnapshot snapshot = new TransactionSnapshot(7L, 1L, "a@example.com", 1, "Food", 1, "TYPE_EXPENSE",
+                "lunch", 12.0, LocalDate.of(2024, 5, 3));
+        reportCache.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.created(snapshot)));
+
+        reportCache.get(ReportCache.ownerOf(2L), "transactionCount", "2024-5", () -> load(3));
+        assertEquals(3, loads.get());
+
+        assertEquals(10.0, reportCache.get(ReportCache.ownerOf(1L), "transactionCount", "2024-5", () -> load(10)));
+        assertEquals(20.0, reportCache.get(ReportCache.ownerOf("a@example.com"), "categoryBreakdown", "2024-5", () -> load(20)));
+        assertEquals(5, loads.get());
+        assertEquals(10.0, reportCache.get(ReportCache.ownerOf(1L), "transactionCount", "2024-5", () -> load(11)));
+        assertEquals(3, reportCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("a value loaded while the owner was invalidated is returned but not cached")
+    void get_skipsValuesLoadedAcrossAnInvalidation() {
+        String owner = ReportCache.ownerOf(1L);
+
+        Double value = reportCache.get(owner, "transactionCount", "2024-5", () -> {
+            reportCache.invalidateOwners(Set.of(owner));
+            return load(5);
+        });
+
+        assertEquals(5.0, value);
+        assertEquals(0, reportCache.stats().size());
+        assertEquals(1, reportCache.stats().staleWritesSkipped());
+    }
+}
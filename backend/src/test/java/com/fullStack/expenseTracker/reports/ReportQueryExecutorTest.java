@@ -0,0 +1,99 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.exceptions.ReportQueryTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportQueryExecutorTest {
+
+    private ReportQueryExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("forked queries run at the same time and their results are available after join")
+    void join_runsQueriesConcurrently() throws Exception {
+        executor = new ReportQueryExecutor(0, 10, 2_000);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        ReportQueryExecutor.Subtask<Integer> first;
+        ReportQueryExecutor.Subtask<Integer> second;
+        try (ReportQueryExecutor.Scope scope = executor.open()) {
+            first = scope.fork("first", () -> {
+                bothStarted.countDown();
+                return bothStarted.await(1, TimeUnit.SECONDS) ? 1 : -1;
+            });
+            second = scope.fork("second", () -> {
+                bothStarted.countDown();
+                return bothStarted.await(1, TimeUnit.SECONDS) ? 2 : -1;
+            });
+            scope.join();
+        }
+
+        assertEquals(1, first.get());
+        assertEquals(2, second.get());
+    }
+
+    @Test
+    @DisplayName("a query running past its deadline fails the scope and cancels its siblings")
+    void join_timesOutSlowQueries() {
+        executor = new ReportQueryExecutor(0, 10, 100);
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+
+        assertThrows(ReportQueryTimeoutException.class, () -> {
+            try (ReportQueryExecutor.Scope scope = executor.open()) {
+                scope.fork("slow", () -> never.await(5, TimeUnit.SECONDS));
+                scope.fork("sibling", () -> {
+                    try {
+                        return never.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw e;
+                    }
+                });
+                scope.join();
+            }
+        });
+
+        long waitUntil = System.currentTimeMillis() + 1_000;
+        while (interrupted.get() == 0 && System.currentTimeMillis() < waitUntil) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, interrupted.get());
+    }
+
+    @Test
+    @DisplayName("no more queries than the concurrency cap run at once")
+    void fork_respectsConcurrencyCap() throws Exception {
+        executor = new ReportQueryExecutor(2, 10, 2_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (ReportQueryExecutor.Scope scope = executor.open()) {
+            for (int i = 0; i < 8; i++) {
+                scope.fork("query" + i, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    return running.decrementAndGet();
+                });
+            }
+            scope.join();
+        }
+
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(2, executor.availablePermits());
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullStack.expenseTracker.reports;
+
+import com.fullStack.expenseTracker.dto.reponses.ForecastCategoryDto;
+import com.fullStack.expenseTracker.dto.reponses.ForecastResponseDto;
+import com.fullStack.expenseTracker.enums.ETransactionFrequency;
+import com.fullStack.expenseTracker.models.SavedTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpendingForecastTest {
+
+    private static SavedTransaction plan(long id, int categoryId, int typeId, double amount,
+                                         ETransactionFrequency frequency, LocalDate upcomingDate) {
+        return SavedTransaction.builder()
+                .planId(id)
+                .userId(1)
+                .categoryId(categoryId)
+                .transactionTypeId(typeId)
+                .amount(amount)
+                .description("plan " + id)
+                .frequency(frequency)
+                .upcomingDate(upcomingDate)
+                .build();
+    }
+
+    @Test
+    @DisplayName("monthly plans keep their anchor day and overdue occurrences are skipped")
+    void between_expandsSchedules() {
+        SavedTransaction monthly = plan(1, 3, 1, 10, ETransactionFrequency.MONTHLY, LocalDate.of(2024, 1, 31));
+
+        assertEquals(List.of(LocalDate.of(2024, 4, 30), LocalDate.of(2024, 5, 31)),
+                ScheduleOccurrences.between(monthly, LocalDate.of(2024, 4, 10), LocalDate.of(2024, 6, 29)).toList());
+        assertEquals(3, ScheduleOccurrences.between(
+                plan(2, 3, 1, 1, ETransactionFrequency.DAILY, LocalDate.of(2024, 1, 1)),
+                LocalDate.of(2024, 4, 10), LocalDate.of(2024, 4, 12)).count());
+        assertEquals(0, ScheduleOccurrences.between(
+                plan(3, 3, 1, 1, ETransactionFrequency.ONE_TIME, LocalDate.of(2024, 4, 9)),
+                LocalDate.of(2024, 4, 10), LocalDate.of(2024, 4, 30)).count());
+    }
+
+    @Test
+    @DisplayName("the projection adds scheduled plans and the unplanned run-rate to this month's actuals")
+    void project_blendsPlansAndRunRate() {
+        LocalDate today = LocalDate.of(2024, 4, 20);
+        List<Object[]> rollups = List.of(
+                new Object[]{3, 1, 2024, 1, 910.0},
+                new Object[]{3, 1, 2024, 3, 910.0},
+                new Object[]{3, 1, 2024, 4, 300.0},
+                new Object[]{5, 2, 2024, 4, 2000.0});
+        List<SavedTransaction> plans = List.of(
+                plan(1, 3, 1, 365, ETransactionFrequency.MONTHLY, LocalDate.of(2024, 4, 25)),
+                plan(2, 5, 2, 2000, ETransactionFrequency.MONTHLY, LocalDate.of(2024, 5, 1)));
+
+        ForecastResponseDto forecast = SpendingForecast.project(today, LocalDate.of(2024, 4, 30), rollups, plans, Map.of());
+
+        // 91 history days: 20/day spent, 12/day of it planned, 8/day unplanned over the 10 remaining days
+        ForecastCategoryDto groceries = forecast.getCategories().stream()
+                .filter(category -> category.getCategoryId() == 3).findFirst().orElseThrow();
+        assertEquals(365, groceries.getScheduledAmount(), 1e-9);
+        assertEquals(80, groceries.getRunRateAmount(), 1e-9);
+        assertEquals(745, groceries.getProjectedTotal(), 1e-9);
+        assertEquals(2000, forecast.getProjectedIncome(), 1e-9);
+        assertEquals(1255, forecast.getProjectedBalance(), 1e-9);
+        assertEquals(1, forecast.getUpcoming().size());
+    }
+}
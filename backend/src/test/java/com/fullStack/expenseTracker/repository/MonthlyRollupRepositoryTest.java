@@ -0,0 +1,202 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.RollupsRebuiltEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.services.impls.MonthlyRollupServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollups;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=MONTH,YEAR,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MonthlyRollupJdbcRepository.class, MonthlyRollupServiceImpl.class})
+@RecordApplicationEvents
+class MonthlyRollupRepositoryTest {
+
+    private static final String ROLLUP_ROWS =
+            "SELECT user_id, rollup_year, rollup_month, category_id, transaction_type_id, total_amount, transaction_count " +
+            "FROM monthly_rollup WHERE transaction_count > 0";
+
+    private static final String GROUPED_TRANSACTIONS =
+            "SELECT t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id, SUM(t.amount), COUNT(*) " +
+            "FROM transaction t JOIN category c ON t.category_id = c.category_id " +
+            "GROUP BY t.user_id, YEAR(t.date), MONTH(t.date), t.category_id, c.transaction_type_id";
+
+    @Autowired
+    private MonthlyRollupServiceImpl monthlyRollupService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTypeRepository transactionTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User user;
+
+    private TransactionType income;
+
+    private Category groceries;
+
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("ranger")
+                .email("ranger@example.com")
+                .password("secret")
+                .enabled(true)
+                .build());
+        TransactionType expense = transactionTypeRepository.save(new TransactionType(ETransactionType.TYPE_EXPENSE));
+        income = transactionTypeRepository.save(new TransactionType(ETransactionType.TYPE_INCOME));
+        groceries = categoryRepository.save(new Category("Groceries", expense, true));
+        rent = categoryRepository.save(new Category("Rent", expense, true));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("deltas for adds, updates across month and category, and deletes match a GROUP BY over transactions")
+    void onTransactionsChanged_tracksTransactionTotals() {
+        Transaction milk = create(groceries, "milk", 12.5, LocalDate.of(2024, 1, 31));
+        Transaction bread = create(groceries, "bread", 4.0, LocalDate.of(2024, 1, 10));
+        Transaction january = create(rent, "january rent", 900, LocalDate.of(2024, 1, 1));
+        assertRollupsMatchTransactions();
+
+        TransactionSnapshot before = TransactionSnapshot.of(milk);
+        milk.setDate(LocalDate.of(2024, 2, 1));
+        milk.setCategory(rent);
+        milk.setAmount(20);
+        save(TransactionChange.updated(before, TransactionSnapshot.of(milk)));
+        assertRollupsMatchTransactions();
+
+        before = TransactionSnapshot.of(bread);
+        bread.setAmount(6.5);
+        save(TransactionChange.updated(before, TransactionSnapshot.of(bread)));
+        assertRollupsMatchTransactions();
+
+        before = TransactionSnapshot.of(january);
+        transactionRepository.delete(january);
+        entityManager.flush();
+        monthlyRollupService.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.deleted(before)));
+        assertRollupsMatchTransactions();
+
+        before = TransactionSnapshot.of(bread);
+        transactionRepository.delete(bread);
+        entityManager.flush();
+        monthlyRollupService.onTransactionsChanged(TransactionsChangedEvent.of(TransactionChange.deleted(before)));
+        assertRollupsMatchTransactions();
+        assertFalse(jdbcTemplate.queryForList("SELECT transaction_count FROM monthly_rollup", Long.class).contains(0L),
+                "emptied rollup rows are removed");
+    }
+
+    @Test
+    @DisplayName("a category's type change moves its rollup rows, and later writes land under the new type")
+    void onCategoryChanged_movesRowsToNewType() {
+        create(groceries, "milk", 12.5, LocalDate.of(2024, 1, 31));
+
+        String previousName = groceries.getCategoryName();
+        int previousType = groceries.getTransactionType().getTransactionTypeId();
+        groceries.setTransactionType(income);
+        categoryRepository.save(groceries);
+        entityManager.flush();
+        monthlyRollupService.onCategoryChanged(CategoryChangedEvent.of(previousName, previousType, groceries));
+        assertRollupsMatchTransactions();
+
+        create(groceries, "refund", 3.0, LocalDate.of(2024, 1, 15));
+        assertRollupsMatchTransactions();
+    }
+
+    @Test
+    @DisplayName("rebuild and the startup backfill restore rollups from transactions and announce it")
+    void rebuildRollups_matchesTransactions() throws Exception {
+        create(groceries, "milk", 12.5, LocalDate.of(2024, 1, 31));
+        create(rent, "rent", 900, LocalDate.of(2024, 2, 1));
+        jdbcTemplate.update("UPDATE monthly_rollup SET total_amount = total_amount * 2");
+
+        monthlyRollupService.rebuildRollups(null);
+        assertRollupsMatchTransactions();
+
+        jdbcTemplate.update("DELETE FROM monthly_rollup");
+        monthlyRollupService.rebuildRollups(user.getId());
+        assertRollupsMatchTransactions();
+
+        jdbcTemplate.update("DELETE FROM monthly_rollup");
+        monthlyRollupService.backfillIfEmpty();
+        assertRollupsMatchTransactions();
+
+        assertEquals(List.of(new RollupsRebuiltEvent(null), new RollupsRebuiltEvent(user.getId()), new RollupsRebuiltEvent(null)),
+                applicationEvents.stream(RollupsRebuiltEvent.class).toList());
+    }
+
+    private Transaction create(Category category, String description, double amount, LocalDate date) {
+        Transaction transaction = transactionRepository.save(new Transaction(user, category, description, amount, date));
+        entityManager.flush();
+        monthlyRollupService.onTransactionsChanged(TransactionsChangedEvent.created(
+                List.of(TransactionSnapshot.of(transaction))));
+        return transaction;
+    }
+
+    private void save(TransactionChange change) {
+        entityManager.flush();
+        monthlyRollupService.onTransactionsChanged(TransactionsChangedEvent.of(change));
+    }
+
+    private void assertRollupsMatchTransactions() {
+        assertEquals(rows(GROUPED_TRANSACTIONS), rows(ROLLUP_ROWS));
+    }
+
+    private Set<String> rows(String sql) {
+        return jdbcTemplate.queryForList(sql).stream()
+                .map(row -> row.values().stream()
+                        .map(value -> value instanceof Double || value instanceof BigDecimal
+                                ? String.format("%.2f", ((Number) value).doubleValue())
+                                : String.valueOf(value))
+                        .collect(Collectors.joining("|")))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,184 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.Transaction;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.utils.MonthRange;
+import com.fullStack.expenseTracker.utils.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TransactionRepositoryTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTypeRepository transactionTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    private TransactionType expense;
+
+    private Category groceries;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("ranger")
+                .email("ranger@example.com")
+                .password("secret")
+                .enabled(true)
+                .build());
+        expense = transactionTypeRepository.save(new TransactionType(ETransactionType.TYPE_EXPENSE));
+        groceries = categoryRepository.save(new Category("Groceries", expense, true));
+
+        transactionRepository.save(new Transaction(user, groceries, "end of january", 10, LocalDate.of(2024, 1, 31)));
+        transactionRepository.save(new Transaction(user, groceries, "start of february", 20, LocalDate.of(2024, 2, 1)));
+        transactionRepository.save(new Transaction(user, groceries, "leap day", 30, LocalDate.of(2024, 2, 29)));
+        transactionRepository.save(new Transaction(user, groceries, "start of march", 40, LocalDate.of(2024, 3, 1)));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("monthly aggregates include both month edges and exclude the first day of the next month")
+    void monthlyAggregates_useHalfOpenRange() {
+        MonthRange february = MonthRange.of(2024, 2);
+
+        assertEquals(50.0, transactionRepository.findTotalByUserAndTransactionType(
+                user.getId(), expense.getTransactionTypeId(), february.start(), february.end()));
+        assertEquals(2, transactionRepository.findTotalNoOfTransactionsByUser(
+                user.getId(), february.start(), february.end()));
+        assertEquals(50.0, transactionRepository.findTotalByUserAndCategory(
+                user.getEmail(), groceries.getCategoryId(), february.start(), february.end()));
+    }
+
+    @Test
+    @DisplayName("daily totals are grouped per date and type within the half-open range")
+    void findDailyTotalsByUser_groupsByDate() {
+        transactionRepository.save(new Transaction(user, groceries, "second on leap day", 5, LocalDate.of(2024, 2, 29)));
+        entityManager.flush();
+
+        List<Object[]> rows = transactionRepository.findDailyTotalsByUser(user.getEmail(),
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1));
+
+        rows.sort((left, right) -> ((LocalDate) left[0]).compareTo((LocalDate) right[0]));
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.of(2024, 2, 29), rows.get(1)[0]);
+        assertEquals("TYPE_EXPENSE", rows.get(1)[1]);
+        assertEquals(35.0, ((Number) rows.get(1)[2]).doubleValue());
+        assertEquals(2L, ((Number) rows.get(1)[3]).longValue());
+    }
+
+    @Test
+    @DisplayName("user/month range predicate is resolved through the (user_id, date) index")
+    void monthRangePredicate_usesUserDateIndex() {
+        String plan = explain("SELECT COUNT(*) FROM transaction t " +
+                "WHERE t.user_id = " + user.getId() + " AND t.date >= DATE '2024-02-01' AND t.date < DATE '2024-03-01'");
+
+        assertTrue(plan.contains("idx_transaction_user_date_id"), plan);
+    }
+
+    @Test
+    @DisplayName("user/category/month range predicate is resolved through the (user_id, category_id, date) index")
+    void categoryMonthRangePredicate_usesUserCategoryDateIndex() {
+        String plan = explain("SELECT SUM(t.amount) FROM transaction t " +
+                "WHERE t.user_id = " + user.getId() + " AND t.category_id = " + groceries.getCategoryId() +
+                " AND t.date >= DATE '2024-02-01' AND t.date < DATE '2024-03-01'");
+
+        assertTrue(plan.contains("idx_transaction_user_category_date"), plan);
+    }
+
+    @Test
+    @DisplayName("offset page of transactions costs one data query and one count query, with no per-row lookups")
+    void findByUser_runsFixedStatementsPerPage() {
+        Statistics statistics = freshStatistics();
+
+        Page<TransactionView> page = transactionRepository.findByUser(user.getEmail(),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "date")), "", "");
+        page.forEach(view -> {
+            assertNotNull(view.userEmail());
+            assertNotNull(view.categoryName());
+        });
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(LocalDate.of(2024, 3, 1), page.getContent().get(0).date());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("cursor page of transactions costs exactly one query")
+    void findByUserAfter_runsSingleStatementPerPage() {
+        Statistics statistics = freshStatistics();
+
+        List<TransactionView> rows = transactionRepository.findByUserAfter(user.getEmail(), "", "",
+                TransactionCursor.START.date(), TransactionCursor.START.transactionId(), PageRequest.of(0, 3));
+        rows.forEach(view -> assertEquals(user.getEmail(), view.userEmail()));
+
+        assertEquals(3, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("admin slice of transactions costs exactly one query and never counts")
+    void sliceAll_runsSingleStatementPerPage() {
+        Statistics statistics = freshStatistics();
+
+        Slice<TransactionView> first = transactionRepository.sliceAll(
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "transactionId")), "");
+        assertEquals(3, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals("start of march", first.getContent().get(0).description());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        Slice<TransactionView> last = transactionRepository.sliceAll(
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "transactionId")), "");
+        assertEquals(1, last.getContent().size());
+        assertFalse(last.hasNext());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics freshStatistics() {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private String explain(String sql) {
+        Object plan = entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult();
+        return String.valueOf(plan).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullStack.expenseTracker.repository;
+
+import com.fullStack.expenseTracker.dto.projections.UserActivityView;
+import com.fullStack.expenseTracker.enums.ERole;
+import com.fullStack.expenseTracker.models.MonthlyRollup;
+import com.fullStack.expenseTracker.models.Role;
+import com.fullStack.expenseTracker.models.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Role userRole;
+
+    private User saver;
+
+    private User spender;
+
+    private User busy;
+
+    @BeforeEach
+    void setUp() {
+        userRole = roleRepository.save(new Role(ERole.ROLE_USER));
+        saver = save("saver");
+        spender = save("spender");
+        busy = save("busy");
+
+        monthlyRollupRepository.save(new MonthlyRollup(null, spender.getId(), 2024, 5, 3, 1, 900, 2));
+        monthlyRollupRepository.save(new MonthlyRollup(null, spender.getId(), 2024, 5, 4, 2, 3000, 1));
+        monthlyRollupRepository.save(new MonthlyRollup(null, busy.getId(), 2024, 5, 3, 1, 120, 12));
+        monthlyRollupRepository.save(new MonthlyRollup(null, saver.getId(), 2024, 4, 3, 1, 5000, 40));
+        entityManager.flush();
+    }
+
+    private User save(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("secret")
+                .enabled(true)
+                .roles(Set.of(userRole))
+                .build());
+    }
+
+    @Test
+    @DisplayName("the admin listing is ordered by this month's spend or activity, with idle users last")
+    void findAllByMonthActivity_sortsBySpendOrActivity() {
+        Page<UserActivityView> bySpend = userRepository.findAllByMonthActivity(PageRequest.of(0, 10),
+                userRole.getId(), "", 2024, 5, "spend");
+        Page<UserActivityView> byActivity = userRepository.findAllByMonthActivity(PageRequest.of(0, 2),
+                userRole.getId(), "", 2024, 5, "activity");
+
+        assertEquals(List.of("spender", "busy", "saver"), bySpend.map(UserActivityView::getUsername).toList());
+        assertEquals(3000, bySpend.getContent().get(0).getIncome().doubleValue());
+        assertEquals(0, bySpend.getContent().get(2).getNoOfTransactions().longValue());
+        assertEquals(List.of("busy", "spender"), byActivity.map(UserActivityView::getUsername).toList());
+        assertEquals(3, byActivity.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("page activity comes back as one grouped row per user with rollups in the month")
+    void findMonthActivityByUsers_groupsPerUser() {
+        List<Object[]> rows = monthlyRollupRepository.findMonthActivityByUsers(
+                List.of(saver.getId(), spender.getId()), 2024, 5);
+
+        assertEquals(1, rows.size());
+        assertEquals(spender.getId(), ((Number) rows.get(0)[0]).longValue());
+        assertEquals(900.0, ((Number) rows.get(0)[1]).doubleValue());
+        assertEquals(3000.0, ((Number) rows.get(0)[2]).doubleValue());
+        assertEquals(3, ((Number) rows.get(0)[3]).longValue());
+    }
+}
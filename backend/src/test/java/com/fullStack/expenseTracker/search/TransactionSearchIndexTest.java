@@ -0,0 +1,138 @@
+package com.fullStack.expenseTracker.search;
+
+import com.fullStack.expenseTracker.events.CategoryChangedEvent;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TransactionSearchIndex Unit Tests")
+class TransactionSearchIndexTest {
+
+    private TransactionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TransactionSearchIndex();
+        index.index(1L, "Uber ride to airport", 1, "Transportation", "alice@example.com", "TYPE_EXPENSE",
+                LocalDate.of(2024, 3, 2), 40.0);
+        index.index(2L, "Monthly salary", 2, "Salary", "alice@example.com", "TYPE_INCOME",
+                LocalDate.of(2024, 3, 1), 3000.0);
+        index.index(3L, "Uber Eats dinner", 3, "Food & Dining", "bob@example.com", "TYPE_EXPENSE",
+                LocalDate.of(2024, 3, 3), 25.0);
+    }
+
+    @Test
+    @DisplayName("Should match description tokens by prefix within the user's own transactions")
+    void searchByUser_matchesPrefixWithinOwner() {
+        assertEquals(Set.of(1L), index.searchByUser("alice@example.com", "ub"));
+        assertEquals(Set.of(3L), index.searchByUser("BOB@example.com", "uber"));
+    }
+
+    @Test
+    @DisplayName("Should AND multiple query tokens across description and category name")
+    void searchByUser_requiresAllTokens() {
+        assertEquals(Set.of(3L), index.searchByUser("bob@example.com", "uber food"));
+        assertTrue(index.searchByUser("bob@example.com", "uber salary").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Admin search should also match owner email and transaction type")
+    void searchAll_matchesOwnerTokens() {
+        assertEquals(Set.of(1L, 3L), index.searchAll("uber"));
+        assertEquals(Set.of(3L), index.searchAll("bob"));
+        assertEquals(Set.of(2L), index.searchAll("income"));
+    }
+
+    @Test
+    @DisplayName("Should drop stale tokens when a transaction is re-indexed or removed")
+    void reindexAndRemove_updatePostings() {
+        index.index(1L, "Taxi ride", 1, "Transportation", "alice@example.com", "TYPE_EXPENSE",
+                LocalDate.of(2024, 3, 2), 40.0);
+        assertTrue(index.searchByUser("alice@example.com", "uber").isEmpty());
+        assertEquals(Set.of(1L), index.searchByUser("alice@example.com", "taxi"));
+
+        index.remove(1L);
+        assertTrue(index.searchAll("taxi").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should order, filter and cut a page of ids in memory and report the full match count")
+    void pageByUser_ordersAndLimitsInMemory() {
+        index.index(4L, "Uber to office", 1, "Transportation", "alice@example.com", "TYPE_EXPENSE",
+                LocalDate.of(2024, 3, 5), 12.0);
+        index.index(5L, "Uber refund", 4, "Refunds", "alice@example.com", "TYPE_INCOME",
+                LocalDate.of(2024, 3, 4), 12.0);
+
+        IdPage byDate = index.pageByUser("alice@example.com", "uber", "", "date", true, 0, 2);
+        assertEquals(List.of(4L, 5L), byDate.ids());
+        assertEquals(3, byDate.total());
+
+        IdPage byAmount = index.pageByUser("alice@example.com", "uber", "EXPENSE", "amount", false, 1, 5);
+        assertEquals(List.of(1L), byAmount.ids());
+        assertEquals(2, byAmount.total());
+
+        assertEquals(List.of(5L, 1L),
+                index.pageByUserAfter("alice@example.com", "uber", "", LocalDate.of(2024, 3, 5), 4L, 10));
+        assertEquals(List.of(4L, 3L), index.pageAll("uber", 1, 2).ids());
+    }
+
+    @Test
+    @DisplayName("Should re-token a category's documents when it is renamed or changes type")
+    void reindexCategory_followsRenameAndTypeChange() {
+        index.onCategoryChanged(new CategoryChangedEvent(1, "Transportation", 1, "Travel", 2, "TYPE_INCOME"));
+
+        assertTrue(index.searchByUser("alice@example.com", "transportation").isEmpty());
+        assertEquals(Set.of(1L), index.searchByUser("alice@example.com", "travel"));
+        assertEquals(Set.of(1L), index.searchByUser("alice@example.com", "uber airport"));
+        assertEquals(Set.of(1L, 2L), index.searchAll("income"));
+        assertEquals(List.of(1L), index.pageByUser("alice@example.com", "uber", "INCOME", "date", true, 0, 10).ids());
+    }
+
+    @Test
+    @DisplayName("Should replay writes committed during a rebuild over the rows the load read before them")
+    void rebuild_replaysChangesCommittedDuringLoad() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        ReflectionTestUtils.setField(index, "transactionRepository", transactionRepository);
+        TransactionSnapshot taxi = new TransactionSnapshot(7L, 1L, "alice@example.com", 1, "Transportation", 1,
+                "TYPE_EXPENSE", "Taxi home", 18.0, LocalDate.of(2024, 3, 6));
+        TransactionSnapshot bus = new TransactionSnapshot(8L, 1L, "alice@example.com", 1, "Transportation", 1,
+                "TYPE_EXPENSE", "Bus ticket", 9.0, LocalDate.of(2024, 3, 7));
+        TransactionSnapshot ferry = new TransactionSnapshot(8L, 1L, "alice@example.com", 1, "Transportation", 1,
+                "TYPE_EXPENSE", "Ferry ticket", 9.0, LocalDate.of(2024, 3, 7));
+        when(transactionRepository.findSearchDocumentsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            // both rows were read, then changed and committed before the load indexed them
+            index.onTransactionsChanged(new TransactionsChangedEvent(List.of(
+                    TransactionChange.deleted(taxi),
+                    TransactionChange.updated(bus, ferry))));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{7L, "Taxi home", "Transportation", "alice@example.com", "TYPE_EXPENSE",
+                    LocalDate.of(2024, 3, 6), 18.0, 1});
+            rows.add(new Object[]{8L, "Bus ticket", "Transportation", "alice@example.com", "TYPE_EXPENSE",
+                    LocalDate.of(2024, 3, 7), 9.0, 1});
+            return rows;
+        });
+
+        index.rebuild();
+
+        assertTrue(index.searchByUser("alice@example.com", "taxi").isEmpty());
+        assertTrue(index.searchByUser("alice@example.com", "bus").isEmpty());
+        assertEquals(Set.of(8L), index.searchByUser("alice@example.com", "ferry"));
+    }
+}
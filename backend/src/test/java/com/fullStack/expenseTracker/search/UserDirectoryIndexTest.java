@@ -0,0 +1,91 @@
+package com.fullStack.expenseTracker.search;
+
+import com.fullStack.expenseTracker.enums.ERole;
+import com.fullStack.expenseTracker.events.UserRegisteredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("UserDirectoryIndex Unit Tests")
+class UserDirectoryIndexTest {
+
+    private UserDirectoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserDirectoryIndex();
+        index.index(3L, "alice", "alice@example.com");
+        index.index(8L, "Bob", "bob.smith@mail.com");
+        index.index(12L, "carol", "carol@example.org");
+        index.index(5L, "dave", "dave@smithson.net");
+    }
+
+    @Test
+    @DisplayName("Should match substrings of username or email, case-insensitively, in id order")
+    void searchAfter_matchesSubstringsInIdOrder() {
+        assertEquals(List.of(5L, 8L), index.searchAfter("SMITH", 0, 10));
+        assertEquals(List.of(3L, 12L), index.searchAfter("example", 0, 10));
+        assertEquals(List.of(12L), index.searchAfter("ol@exa", 0, 10));
+        assertTrue(index.searchAfter("mithx", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject trigram candidates whose grams don't line up into the key")
+    void searchAfter_verifiesCandidates() {
+        index.index(30L, "abcab", "erin@mail.io");
+
+        // every trigram of "abcabc" is in "abcab", the key itself is not
+        assertTrue(index.searchAfter("abcabc", 0, 10).isEmpty());
+        assertEquals(List.of(30L), index.searchAfter("bcab", 0, 10));
+        assertEquals(0, index.page("abcabc", 0, 10).total());
+        assertEquals(2, index.page("ple.", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Should continue after the keyset position and stop at the limit")
+    void searchAfter_pagesByKeyset() {
+        assertEquals(List.of(3L, 5L), index.searchAfter("", 0, 2));
+        assertEquals(List.of(8L, 12L), index.searchAfter("", 5, 2));
+        assertEquals(List.of(8L, 12L), index.searchAfter("o", 5, 10));
+        assertEquals(List.of(12L), index.searchAfter("exam", 3, 10));
+        assertEquals(4, index.page(null, 0, 10).total());
+        assertEquals(2, index.page("th", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Should index registered standard users only and drop postings of removed users")
+    void onUserRegisteredAndRemove_updatePostings() {
+        index.onUserRegistered(new UserRegisteredEvent(20L, "smithy", "smithy@example.com", Set.of(ERole.ROLE_USER)));
+        index.onUserRegistered(new UserRegisteredEvent(21L, "smithadmin", "admin@example.com", Set.of(ERole.ROLE_ADMIN)));
+        assertEquals(List.of(5L, 8L, 20L), index.searchAfter("smith", 0, 10));
+
+        index.remove(8L);
+        index.remove(20L);
+        assertEquals(List.of(5L), index.searchAfter("smith", 0, 10));
+        assertTrue(index.searchAfter("bob", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return only the requested offset page with the total, and recount after the directory changes")
+    void page_countsInTheSameWalk() {
+        IdPage first = index.page("o", 0, 2);
+        assertEquals(List.of(3L, 5L), first.ids());
+        assertEquals(4, first.total());
+
+        IdPage second = index.page("o", 2, 2);
+        assertEquals(List.of(8L, 12L), second.ids());
+        assertEquals(4, second.total());
+        assertTrue(index.page("o", 4, 2).ids().isEmpty());
+
+        index.remove(12L);
+        assertEquals(3, index.page("o", 0, 2).total());
+        assertEquals(List.of(5L), index.page("smith", 0, 1).ids());
+        assertEquals(2, index.page("smith", 0, 1).total());
+    }
+}
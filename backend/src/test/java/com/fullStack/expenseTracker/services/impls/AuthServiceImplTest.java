@@ -5,6 +5,7 @@ import com.fullStack.expenseTracker.dto.requests.ResetPasswordRequestDto;
 import com.fullStack.expenseTracker.dto.requests.SignUpRequestDto;
 import com.fullStack.expenseTracker.enums.ApiResponseStatus;
 import com.fullStack.expenseTracker.enums.ERole;
+import com.fullStack.expenseTracker.events.UserRegisteredEvent;
 import com.fullStack.expenseTracker.exceptions.UserAlreadyExistsException;
 import com.fullStack.expenseTracker.factories.RoleFactory;
 import com.fullStack.expenseTracker.models.Role;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -52,6 +54,9 @@ class AuthServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -69,7 +74,11 @@ class AuthServiceImplTest {
         when(userService.existsByEmail("jane@example.com")).thenReturn(false);
         when(roleFactory.getInstance("user")).thenReturn(new Role(ERole.ROLE_USER));
         when(passwordEncoder.encode("password123")).thenReturn("encoded");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
 
         ResponseEntity<ApiResponseDto<?>> response = authService.save(request);
 
@@ -78,6 +87,7 @@ class AuthServiceImplTest {
         assertNotNull(body);
         assertEquals(ApiResponseStatus.SUCCESS, body.getStatus());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(eventPublisher, times(1)).publishEvent(any(UserRegisteredEvent.class));
     }
 
     @Test
@@ -0,0 +1,208 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.CalendarResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.DashboardResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.PivotResponseDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.dto.reponses.TimeSeriesResponseDto;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.models.Budget;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.reports.ReportCache;
+import com.fullStack.expenseTracker.reports.ReportQueryExecutor;
+import com.fullStack.expenseTracker.repository.BudgetRepository;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.MonthlyRollupRepository;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.repository.UserRepository;
+import com.fullStack.expenseTracker.services.SavedTransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportService Unit Tests")
+@SuppressWarnings({"NullAway", "null"})
+class ReportServiceTest {
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private SavedTransactionService savedTransactionService;
+
+    @Spy
+    private ReportCache reportCache = new ReportCache(100, 60_000);
+
+    @Spy
+    private ReportQueryExecutor reportQueryExecutor = new ReportQueryExecutor(4, 10, 5_000);
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    @Test
+    @DisplayName("Should fold the rollup rows into month totals, summary and breakdown and cache the result")
+    void testGetDashboard_FoldsRollupRows() throws Exception {
+        User user = new User();
+        user.setId(3L);
+        user.setEmail("user@example.com");
+        YearMonth current = YearMonth.now();
+        YearMonth previous = current.minusMonths(1);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(monthlyRollupRepository.findDashboardRowsByUser(anyLong(), anyInt(), anyInt())).thenReturn(List.of(
+                new Object[]{current.getYear(), current.getMonthValue(), 1, "Food", "TYPE_EXPENSE", 30.0, 3L},
+                new Object[]{current.getYear(), current.getMonthValue(), 1, "Rent", "TYPE_EXPENSE", 500.0, 1L},
+                new Object[]{current.getYear(), current.getMonthValue(), 2, "Salary", "TYPE_INCOME", 1000.0, 1L},
+                new Object[]{previous.getYear(), previous.getMonthValue(), 1, "Food", "TYPE_EXPENSE", 20.0, 2L}
+        ));
+        when(budgetRepository.findByUserIdAndMonthAndYear(3L, current.getMonthValue(), current.getYear()))
+                .thenReturn(new Budget(3L, 800, current.getMonthValue(), current.getYear()));
+        when(savedTransactionService.getSavedTransactionsDueInMonth(3L, current.getMonthValue())).thenReturn(List.of());
+
+        var response = reportService.getDashboard("user@example.com", current.getYear(), current.getMonthValue());
+        reportService.getDashboard("user@example.com", current.getYear(), current.getMonthValue());
+
+        ApiResponseDto<?> body = response.getBody();
+        DashboardResponseDto dashboard = (DashboardResponseDto) body.getResponse();
+        assertEquals(530.0, dashboard.getTotalExpense());
+        assertEquals(1000.0, dashboard.getTotalIncome());
+        assertEquals(5, dashboard.getTotalNoOfTransactions());
+        assertEquals(800.0, dashboard.getBudget());
+        assertEquals(2, dashboard.getMonthlySummary().size());
+        assertEquals(previous.getMonthValue(), dashboard.getMonthlySummary().get(0).getMonth());
+        assertEquals(20.0, dashboard.getMonthlySummary().get(0).getTotal_expense());
+        assertEquals("Salary", dashboard.getCategoryBreakdown().get(0).getCategoryName());
+        assertEquals(3, dashboard.getCategoryBreakdown().size());
+        verify(monthlyRollupRepository, times(1)).findDashboardRowsByUser(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw UserNotFoundException for an unknown email")
+    void testGetDashboard_UnknownUser() {
+        when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> reportService.getDashboard("missing@example.com", 2024, 5));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid dashboard month before querying")
+    void testGetDashboard_InvalidMonth() {
+        assertThrows(TransactionServiceLogicException.class, () -> reportService.getDashboard("user@example.com", 2024, 13));
+        verifyNoInteractions(userRepository, monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should return a zero-filled weekly series aligned to Mondays")
+    void testGetTimeSeries_ZeroFillsWeeks() throws Exception {
+        when(transactionRepository.findDailyTotalsByUser("user@example.com", LocalDate.of(2024, 5, 8), LocalDate.of(2024, 5, 29)))
+                .thenReturn(List.<Object[]>of(
+                        new Object[]{LocalDate.of(2024, 5, 9), "TYPE_EXPENSE", 12.5, 2L},
+                        new Object[]{LocalDate.of(2024, 5, 26), "TYPE_INCOME", 100.0, 1L}
+                ));
+
+        var response = reportService.getTimeSeries("user@example.com",
+                LocalDate.of(2024, 5, 8), LocalDate.of(2024, 5, 29), "week");
+
+        TimeSeriesResponseDto series = (TimeSeriesResponseDto) response.getBody().getResponse();
+        assertEquals(4, series.getPoints().size());
+        assertEquals(LocalDate.of(2024, 5, 6), series.getPoints().get(0).getBucketStart());
+        assertEquals(12.5, series.getPoints().get(0).getExpense());
+        assertEquals(0.0, series.getPoints().get(1).getExpense());
+        assertEquals(0, series.getPoints().get(1).getNoOfTransactions());
+        assertEquals(100.0, series.getPoints().get(2).getIncome());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown buckets and inverted ranges")
+    void testGetTimeSeries_InvalidInput() {
+        assertThrows(TransactionServiceLogicException.class, () -> reportService.getTimeSeries("user@example.com",
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1), "hour"));
+        assertThrows(TransactionServiceLogicException.class, () -> reportService.getTimeSeries("user@example.com",
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 5, 1), "day"));
+    }
+
+    @Test
+    @DisplayName("Should lay out the pivot as a category dictionary and a dense category x month matrix")
+    void testGetCategoryMonthPivot_BuildsMatrix() throws Exception {
+        Category food = new Category("Food", new TransactionType(ETransactionType.TYPE_EXPENSE), true);
+        food.setCategoryId(2);
+        Category rent = new Category("Rent", new TransactionType(ETransactionType.TYPE_EXPENSE), true);
+        rent.setCategoryId(5);
+        when(monthlyRollupRepository.findCategoryMonthPivotByUser("user@example.com", 2024 * 12 + 1, 2024 * 12 + 3))
+                .thenReturn(List.of(
+                        new Object[]{5, 2024, 3, 500.0, 1L},
+                        new Object[]{2, 2024, 1, 30.0, 3L},
+                        new Object[]{2, 2024, 3, 12.0, 1L}
+                ));
+        when(categoryRepository.findAllById(any())).thenReturn(List.of(food, rent));
+
+        var response = reportService.getCategoryMonthPivot("user@example.com", "2024-01", "2024-03");
+
+        PivotResponseDto pivot = (PivotResponseDto) response.getBody().getResponse();
+        assertEquals(List.of("2024-01", "2024-02", "2024-03"), pivot.getMonths());
+        assertEquals("Food", pivot.getCategories().get(0).getCategoryName());
+        assertEquals("Rent", pivot.getCategories().get(1).getCategoryName());
+        assertEquals(30.0, pivot.getTotals()[0][0]);
+        assertEquals(0.0, pivot.getTotals()[0][1]);
+        assertEquals(12.0, pivot.getTotals()[0][2]);
+        assertEquals(500.0, pivot.getTotals()[1][2]);
+        assertEquals(3, pivot.getCounts()[0][0]);
+    }
+
+    @Test
+    @DisplayName("Should return every day of the month once and serve repeat renders from the cache")
+    void testGetCalendar_FillsMonthAndCaches() throws Exception {
+        when(transactionRepository.findDailyTotalsByUser("user@example.com", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .thenReturn(List.<Object[]>of(
+                        new Object[]{LocalDate.of(2024, 2, 29), "TYPE_EXPENSE", 40.0, 2L},
+                        new Object[]{LocalDate.of(2024, 2, 29), "TYPE_INCOME", 900.0, 1L}
+                ));
+
+        var response = reportService.getCalendar("user@example.com", 2024, 2);
+        reportService.getCalendar("user@example.com", 2024, 2);
+
+        CalendarResponseDto calendar = (CalendarResponseDto) response.getBody().getResponse();
+        assertEquals(29, calendar.getDays().size());
+        assertEquals(40.0, calendar.getDays().get(28).getExpense());
+        assertEquals(2, calendar.getDays().get(28).getExpenseCount());
+        assertEquals(900.0, calendar.getDays().get(28).getIncome());
+        assertEquals(0.0, calendar.getDays().get(0).getExpense());
+        verify(transactionRepository, times(1)).findDailyTotalsByUser(any(), any(), any());
+        assertThrows(TransactionServiceLogicException.class, () -> reportService.getCalendar("user@example.com", 2024, 13));
+    }
+}
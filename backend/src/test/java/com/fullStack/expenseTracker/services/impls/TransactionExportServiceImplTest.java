@@ -0,0 +1,126 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.exceptions.UserNotFoundException;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"NullAway", "null"})
+class TransactionExportServiceImplTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @InjectMocks
+    private TransactionExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userService.existsByEmail(EMAIL)).thenReturn(true);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        lenient().when(transactionRepository.streamByUser(EMAIL)).thenAnswer(invocation -> Stream.of(
+                row(4L, "two\nlines", "Food, drinks", LocalDate.of(2024, 3, 4), 40.0),
+                row(3L, "the \"good\" one", "Food, drinks", LocalDate.of(2024, 3, 3), 30.0),
+                row(2L, "milk, eggs", "Groceries", LocalDate.of(2024, 3, 2), 20.0),
+                row(1L, "plain", "Groceries", LocalDate.of(2024, 3, 1), 10.0)
+        ));
+    }
+
+    @Test
+    @DisplayName("csv export should write the header and escape commas, quotes and newlines")
+    void exportTransactions_writesEscapedCsv() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exportService.exportTransactions(EMAIL, "csv");
+
+        assertEquals("attachment; filename=\"transactions.csv\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("""
+                transactionId,date,description,categoryId,category,transactionType,amount
+                4,2024-03-04,"two
+                lines",5,"Food, drinks",1,40.0
+                3,2024-03-03,"the ""good"" one",5,"Food, drinks",1,30.0
+                2,2024-03-02,"milk, eggs",5,Groceries,1,20.0
+                1,2024-03-01,plain,5,Groceries,1,10.0
+                """, stream(response));
+    }
+
+    @Test
+    @DisplayName("export should only stream the caller's rows")
+    void exportTransactions_streamsOnlyCallersRows() throws Exception {
+        String ndjson = stream(exportService.exportTransactions(EMAIL, "NDJSON"));
+
+        List<JsonNode> rows = ndjson.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+        assertEquals(4, rows.size());
+        assertEquals("two\nlines", rows.get(0).get("description").asText());
+        rows.forEach(row -> assertEquals(EMAIL, row.get("userEmail").asText()));
+        verify(transactionRepository).streamByUser(EMAIL);
+        verifyNoMoreInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("export should reject unknown formats and users before anything is streamed")
+    void exportTransactions_rejectsBeforeStreaming() {
+        assertThrows(TransactionServiceLogicException.class, () -> exportService.exportTransactions(EMAIL, "xlsx"));
+        assertThrows(UserNotFoundException.class, () -> exportService.exportTransactions("other@example.com", "csv"));
+        verify(transactionRepository, never()).streamByUser(any());
+    }
+
+    private static String stream(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TransactionView row(long id, String description, String category, LocalDate date, double amount) {
+        return new TransactionView(id, 5, category, 1, description, amount, date, EMAIL);
+    }
+}
@@ -0,0 +1,199 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.ApiResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionImportResponseDto;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.CategoryRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import com.fullStack.expenseTracker.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"NullAway", "null", "unchecked"})
+class TransactionImportServiceImplTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TransactionImportServiceImpl importService;
+
+    private final Category food = category(1, "Food", ETransactionType.TYPE_EXPENSE);
+
+    private final Category otherExpense = category(2, "Other", ETransactionType.TYPE_EXPENSE);
+
+    private final Category otherIncome = category(3, "Other", ETransactionType.TYPE_INCOME);
+
+    private final Category salary = category(4, "Salary", ETransactionType.TYPE_INCOME);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("jane@example.com");
+        when(userService.findByEmail("jane@example.com")).thenReturn(user);
+        when(categoryRepository.findAll()).thenReturn(List.of(food, otherExpense, otherIncome, salary));
+    }
+
+    @Test
+    @DisplayName("importTransactions should commit rows in chunks and publish one event per chunk")
+    void importTransactions_commitsInChunks() throws Exception {
+        runTransactionTemplate();
+        List<List<NewTransactionRow>> batches = new ArrayList<>();
+        when(transactionJdbcRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            List<NewTransactionRow> rows = new ArrayList<>(invocation.<List<NewTransactionRow>>getArgument(0));
+            batches.add(rows);
+            return LongStream.rangeClosed(1, rows.size()).boxed().toList();
+        });
+
+        TransactionImportResponseDto result = importCsv("""
+                date,description,amount,category
+                2024-03-01,Lunch,-12.5,Food
+                2024-03-02,Pay,1500,Salary
+                2024-03-03,Dinner,-20,food
+                2024-03-04,,-1,Food
+                2024-03-05,Snack,-3,Food
+                """);
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(4, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(5, result.getErrors().get(0).getLineNumber());
+        assertEquals(List.of(2, 2), batches.stream().map(List::size).toList());
+        assertEquals(12.5, batches.get(0).get(0).amount());
+        assertEquals(4, batches.get(0).get(1).categoryId());
+        verify(eventPublisher, times(2)).publishEvent(any(TransactionsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("importTransactions should fail only the rows of a chunk that could not be written")
+    void importTransactions_failsRowsOfRejectedChunk() throws Exception {
+        runTransactionTemplate();
+        when(transactionJdbcRepository.batchInsert(anyList()))
+                .thenReturn(List.of(1L, 2L))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of(5L));
+
+        TransactionImportResponseDto result = importCsv("""
+                date,description,amount,category
+                2024-03-01,A,-1,Food
+                2024-03-02,B,-1,Food
+                2024-03-03,C,-1,Food
+                2024-03-04,D,-1,Food
+                2024-03-05,E,-1,Food
+                """);
+
+        assertEquals(3, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+        assertEquals(List.of(4L, 5L), result.getErrors().stream().map(error -> error.getLineNumber()).toList());
+        verify(eventPublisher, times(2)).publishEvent(any(TransactionsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("importTransactions should count every failed row but report at most 500 errors")
+    void importTransactions_capsReportedErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("date,description,amount\n");
+        for (int i = 0; i < 600; i++) {
+            csv.append("not-a-date,Row ").append(i).append(",1\n");
+        }
+
+        TransactionImportResponseDto result = importCsv(csv.toString());
+
+        assertEquals(600, result.getTotalRows());
+        assertEquals(600, result.getFailedRows());
+        assertEquals(0, result.getImportedRows());
+        assertEquals(500, result.getErrors().size());
+        verify(transactionJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("importTransactions should resolve a shared category name by the row's type and reject it without one")
+    void importTransactions_resolvesCategoryByType() throws Exception {
+        runTransactionTemplate();
+        ArgumentCaptor<List<NewTransactionRow>> rows = ArgumentCaptor.forClass(List.class);
+        when(transactionJdbcRepository.batchInsert(rows.capture())).thenReturn(List.of(1L, 2L));
+
+        TransactionImportResponseDto result = importCsv("""
+                date,description,amount,category,type
+                2024-03-01,Refund,40,Other,income
+                2024-03-02,Fee,-5,Other,
+                2024-03-03,Gift,25,Other,TYPE_EXPENSE
+                2024-03-04,Bonus,100,Salary,expense
+                """);
+
+        assertEquals(2, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+        assertEquals(List.of(3, 2), rows.getValue().stream().map(NewTransactionRow::categoryId).toList());
+        assertTrue(result.getErrors().get(0).getMessage().contains("exists for both expense and income"));
+        assertEquals(5, result.getErrors().get(1).getLineNumber());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("Unknown expense category"));
+    }
+
+    private TransactionImportResponseDto importCsv(String csv) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        ApiResponseDto<?> body = importService.importTransactions("jane@example.com", file, null, null, null).getBody();
+        return (TransactionImportResponseDto) body.getResponse();
+    }
+
+    private void runTransactionTemplate() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static Category category(int id, String name, ETransactionType type) {
+        Category category = new Category(name, new TransactionType(type), true);
+        category.setCategoryId(id);
+        return category;
+    }
+}
@@ -0,0 +1,223 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.reponses.BatchItemResultDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchRequestDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionBatchUpdateDto;
+import com.fullStack.expenseTracker.dto.requests.TransactionRequestDto;
+import com.fullStack.expenseTracker.enums.ApiResponseStatus;
+import com.fullStack.expenseTracker.enums.ETransactionType;
+import com.fullStack.expenseTracker.events.TransactionChange;
+import com.fullStack.expenseTracker.events.TransactionSnapshot;
+import com.fullStack.expenseTracker.events.TransactionsChangedEvent;
+import com.fullStack.expenseTracker.exceptions.TransactionServiceLogicException;
+import com.fullStack.expenseTracker.models.Category;
+import com.fullStack.expenseTracker.models.TransactionType;
+import com.fullStack.expenseTracker.models.User;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.NewTransactionRow;
+import com.fullStack.expenseTracker.repository.TransactionJdbcRepository.UpdatedTransactionRow;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.services.CategoryService;
+import com.fullStack.expenseTracker.services.UserService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"NullAway", "null", "unchecked"})
+class TransactionServiceImplBatchTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @InjectMocks
+    private TransactionServiceImpl transactionService;
+
+    private final Category food = category(1, "Food");
+
+    private final Category rent = category(2, "Rent");
+
+    private final TransactionSnapshot lunch = new TransactionSnapshot(10L, 7L, EMAIL, 1, "Food", 1, "TYPE_EXPENSE",
+            "lunch", 12.0, DATE);
+
+    private final TransactionSnapshot coffee = new TransactionSnapshot(11L, 7L, EMAIL, 1, "Food", 1, "TYPE_EXPENSE",
+            "coffee", 3.0, DATE);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(transactionService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        User user = new User();
+        user.setId(7L);
+        user.setEmail(EMAIL);
+        lenient().when(userService.existsByEmail(EMAIL)).thenReturn(true);
+        lenient().when(userService.findByEmail(EMAIL)).thenReturn(user);
+        lenient().when(categoryService.getCategoriesByIds(anyCollection())).thenReturn(Map.of(1, food, 2, rent));
+        lenient().when(transactionRepository.findSnapshotsByIds(anyCollection())).thenReturn(List.of(lunch, coffee));
+        lenient().when(transactionJdbcRepository.batchInsert(anyList())).thenAnswer(invocation ->
+                LongStream.range(100, 100 + invocation.<List<NewTransactionRow>>getArgument(0).size()).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("processTransactionBatch should reject more than 500 operations before touching storage")
+    void processTransactionBatch_rejectsOversizedBatch() throws Exception {
+        TransactionBatchRequestDto oversized = new TransactionBatchRequestDto(
+                new ArrayList<>(Collections.nCopies(300, create("lunch", 1))),
+                new ArrayList<>(),
+                new ArrayList<>(LongStream.range(0, 201).boxed().toList()));
+
+        TransactionServiceLogicException exception = assertThrows(TransactionServiceLogicException.class,
+                () -> transactionService.processTransactionBatch(oversized));
+        assertEquals("A batch can have atmost 500 operations!", exception.getMessage());
+        verifyNoInteractions(transactionRepository, transactionJdbcRepository, eventPublisher);
+
+        oversized.getDeletes().remove(0);
+        assertEquals(500, results(oversized).size());
+    }
+
+    @Test
+    @DisplayName("processTransactionBatch should report a message for every invalid item and publish nothing")
+    void processTransactionBatch_reportsItemErrors() throws Exception {
+        TransactionBatchRequestDto batch = new TransactionBatchRequestDto(
+                new ArrayList<>(List.of(
+                        create(null, 1),
+                        create("x".repeat(51), 1),
+                        new TransactionRequestDto("nobody@example.com", 1, "lunch", 5.0, DATE),
+                        create("lunch", 99))),
+                new ArrayList<>(List.of(
+                        new TransactionBatchUpdateDto(null, create("lunch", 1)),
+                        new TransactionBatchUpdateDto(404L, create("lunch", 1)),
+                        new TransactionBatchUpdateDto(10L, null))),
+                new ArrayList<>(Collections.singletonList(404L)));
+
+        List<BatchItemResultDto> results = results(batch);
+
+        assertEquals(List.of(
+                "Description is required!",
+                "Description can have atmost 50 characters!",
+                "User not found with email nobody@example.com",
+                "Category not found with id 99",
+                "Transaction id is required!",
+                "Transaction not found with id : 404",
+                "Transaction details are required!",
+                "Transaction not found with id : 404"
+        ), results.stream().map(BatchItemResultDto::getMessage).toList());
+        results.forEach(result -> assertEquals(ApiResponseStatus.FAILED, result.getStatus()));
+        verify(transactionRepository, never()).deleteAllByIdIn(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("processTransactionBatch should write the valid items of a mixed batch and report the rest")
+    void processTransactionBatch_writesValidItemsOfMixedBatch() throws Exception {
+        TransactionBatchRequestDto batch = new TransactionBatchRequestDto(
+                new ArrayList<>(List.of(create("breakfast", 1), create("", 99), create("rent", 2))),
+                new ArrayList<>(List.of(new TransactionBatchUpdateDto(10L, create("late lunch", 2)))),
+                new ArrayList<>(List.of(11L, 12L)));
+
+        List<BatchItemResultDto> results = results(batch);
+
+        assertEquals(List.of("create:0:100:SUCCESS", "create:1:null:FAILED", "create:2:101:SUCCESS",
+                        "update:0:10:SUCCESS", "delete:0:11:SUCCESS", "delete:1:12:FAILED"),
+                results.stream().map(result -> result.getOperation() + ":" + result.getIndex() + ":"
+                        + result.getTransactionId() + ":" + result.getStatus()).toList());
+
+        ArgumentCaptor<List<NewTransactionRow>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchInsert(inserted.capture());
+        assertEquals(List.of("breakfast", "rent"), inserted.getValue().stream().map(NewTransactionRow::description).toList());
+
+        ArgumentCaptor<List<UpdatedTransactionRow>> updated = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchUpdate(updated.capture());
+        assertEquals(List.of(new UpdatedTransactionRow(10L, new NewTransactionRow(7L, 2, "late lunch", 5.0, DATE))),
+                updated.getValue());
+        verify(transactionRepository).deleteAllByIdIn(Set.of(11L));
+    }
+
+    @Test
+    @DisplayName("processTransactionBatch should publish one event with the before and after of every write")
+    void processTransactionBatch_publishesChanges() throws Exception {
+        TransactionBatchRequestDto batch = new TransactionBatchRequestDto(
+                new ArrayList<>(List.of(create("breakfast", 1))),
+                new ArrayList<>(List.of(new TransactionBatchUpdateDto(10L, create("late lunch", 2)))),
+                new ArrayList<>(List.of(10L, 11L)));
+
+        results(batch);
+
+        ArgumentCaptor<TransactionsChangedEvent> event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        List<TransactionChange> changes = event.getValue().changes();
+        assertEquals(4, changes.size());
+
+        assertNull(changes.get(0).before());
+        assertEquals(100L, changes.get(0).after().transactionId());
+        assertEquals("breakfast", changes.get(0).after().description());
+
+        assertEquals(lunch, changes.get(1).before());
+        assertEquals("late lunch", changes.get(1).after().description());
+        assertEquals("Rent", changes.get(1).after().categoryName());
+
+        assertEquals(changes.get(1).after(), changes.get(2).before());
+        assertNull(changes.get(2).after());
+        assertEquals(coffee, changes.get(3).before());
+        assertNull(changes.get(3).after());
+    }
+
+    private List<BatchItemResultDto> results(TransactionBatchRequestDto batch) throws Exception {
+        return (List<BatchItemResultDto>) transactionService.processTransactionBatch(batch).getBody().getResponse();
+    }
+
+    private static TransactionRequestDto create(String description, int categoryId) {
+        return new TransactionRequestDto(EMAIL, categoryId, description, 5.0, DATE);
+    }
+
+    private static Category category(int id, String name) {
+        TransactionType expense = new TransactionType(1, ETransactionType.TYPE_EXPENSE);
+        Category category = new Category(name, expense, true);
+        category.setCategoryId(id);
+        return category;
+    }
+}
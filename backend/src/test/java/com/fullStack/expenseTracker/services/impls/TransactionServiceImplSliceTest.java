@@ -0,0 +1,106 @@
+package com.fullStack.expenseTracker.services.impls;
+
+import com.fullStack.expenseTracker.dto.projections.TransactionView;
+import com.fullStack.expenseTracker.dto.reponses.SliceResponseDto;
+import com.fullStack.expenseTracker.dto.reponses.TransactionResponseDto;
+import com.fullStack.expenseTracker.repository.TransactionRepository;
+import com.fullStack.expenseTracker.search.IdPage;
+import com.fullStack.expenseTracker.search.TransactionSearchIndex;
+import com.fullStack.expenseTracker.services.TransactionCountEstimator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"NullAway", "null", "unchecked"})
+class TransactionServiceImplSliceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionCountEstimator transactionCountEstimator;
+
+    @Mock
+    private TransactionSearchIndex transactionSearchIndex;
+
+    @InjectMocks
+    private TransactionServiceImpl transactionService;
+
+    @Test
+    @DisplayName("getAllTransactionsSlice should page without a count and show the estimated total")
+    void getAllTransactionsSlice_usesEstimatedTotal() throws Exception {
+        Pageable pageable = PageRequest.of(2, 2).withSort(Sort.Direction.DESC, "transactionId");
+        when(transactionSearchIndex.isSearchable("")).thenReturn(false);
+        when(transactionRepository.sliceAll(pageable, "")).thenReturn(new SliceImpl<>(List.of(view(6L), view(5L)), pageable, true));
+        when(transactionCountEstimator.approximateTotal()).thenReturn("~1200");
+
+        SliceResponseDto<List<TransactionResponseDto>> slice = slice(2, 2, "");
+
+        assertEquals(List.of(6L, 5L), slice.getData().stream().map(TransactionResponseDto::getTransactionId).toList());
+        assertEquals(2, slice.getPageNumber());
+        assertTrue(slice.isHasNext());
+        assertEquals("~1200", slice.getApproximateTotal());
+        verify(transactionRepository, never()).findAll(any(Pageable.class), anyString());
+        verify(transactionRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("getAllTransactionsSlice should not show the global estimate for a filtered database slice")
+    void getAllTransactionsSlice_omitsEstimateWhenFiltered() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2).withSort(Sort.Direction.DESC, "transactionId");
+        when(transactionSearchIndex.isSearchable("ab")).thenReturn(false);
+        when(transactionRepository.sliceAll(pageable, "ab")).thenReturn(new SliceImpl<>(List.of(view(1L)), pageable, false));
+
+        SliceResponseDto<List<TransactionResponseDto>> slice = slice(0, 2, "ab");
+
+        assertFalse(slice.isHasNext());
+        assertNull(slice.getApproximateTotal());
+        verify(transactionCountEstimator, never()).approximateTotal();
+    }
+
+    @Test
+    @DisplayName("getAllTransactionsSlice should probe one extra search hit to decide hasNext and report the exact match count")
+    void getAllTransactionsSlice_pagesSearchIndex() throws Exception {
+        when(transactionSearchIndex.isSearchable("coffee")).thenReturn(true);
+        when(transactionSearchIndex.pageAll("coffee", 2, 3)).thenReturn(new IdPage(List.of(9L, 7L, 4L), 5));
+        when(transactionRepository.findViewsByIds(List.of(9L, 7L))).thenReturn(List.of(view(7L), view(9L)));
+
+        SliceResponseDto<List<TransactionResponseDto>> slice = slice(1, 2, "coffee");
+
+        assertEquals(List.of(9L, 7L), slice.getData().stream().map(TransactionResponseDto::getTransactionId).toList());
+        assertTrue(slice.isHasNext());
+        assertEquals("5", slice.getApproximateTotal());
+        verify(transactionRepository, never()).sliceAll(any(), any());
+        verify(transactionCountEstimator, never()).approximateTotal();
+    }
+
+    private SliceResponseDto<List<TransactionResponseDto>> slice(int pageNumber, int pageSize, String searchKey) throws Exception {
+        return (SliceResponseDto<List<TransactionResponseDto>>) transactionService
+                .getAllTransactionsSlice(pageNumber, pageSize, searchKey).getBody().getResponse();
+    }
+
+    private static TransactionView view(long id) {
+        return new TransactionView(id, 1, "Food", 1, "coffee " + id, 3.0, LocalDate.of(2024, 3, 1), "jane@example.com");
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullStack.expenseTracker.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    @DisplayName("least recently used entry is evicted once the cache is full")
+    void put_evictsLeastRecentlyUsed() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, 10_000, now::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("entries stop being returned once their ttl has passed")
+    void get_dropsExpiredEntries() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10, 500, now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(499);
+        assertEquals(1, cache.get("a"));
+
+        now.addAndGet(1);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.stats().expirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("putIfAbsent keeps the live entry and replaces an expired one")
+    void putIfAbsent_respectsLiveEntries() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10, 500, now::get);
+
+        assertNull(cache.putIfAbsent("a", 1));
+        assertEquals(1, cache.putIfAbsent("a", 2));
+
+        now.addAndGet(500);
+        assertNull(cache.putIfAbsent("a", 3));
+        assertEquals(3, cache.get("a"));
+    }
+}
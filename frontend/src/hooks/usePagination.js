@@ -28,7 +28,7 @@ function usePagination(initialSortField = null) {
 
     return {
         pageSize, pageNumber, noOfPages, sortField, sortDirec, searchKey,
-        onNextClick, onPrevClick, setNoOfPages, setNoOfRecords, setSortField, setSortDirec, setSearchKey, getPageInfo
+        onNextClick, onPrevClick, setPageNumber, setNoOfPages, setNoOfRecords, setSortField, setSortDirec, setSearchKey, getPageInfo
     }
 }
 
@@ -13,14 +13,15 @@ function AdminUsersManagement() {
 
     const [data, setData] = useState([]);
     const [isFetching, setIsFetching] = useState(true);
+    const [sortBy, setSortBy] = useState('');
 
     const {
         pageSize, pageNumber, noOfPages, searchKey,
-        onNextClick, onPrevClick, setNoOfPages, setNoOfRecords, setSearchKey, getPageInfo
+        onNextClick, onPrevClick, setPageNumber, setNoOfPages, setNoOfRecords, setSearchKey, getPageInfo
     } = usePagination()
 
     const getUsers = useCallback(async () => {
-        await AdminService.getAllUsers(pageNumber, pageSize, searchKey).then(
+        await AdminService.getAllUsers(pageNumber, pageSize, searchKey, sortBy || undefined).then(
             (response) => {
                 if (response.data.status === 'SUCCESS') {
                     setData(response.data.response.data)
@@ -35,7 +36,17 @@ function AdminUsersManagement() {
             }
         )
         setIsFetching(false)
-    }, [pageNumber, pageSize, searchKey, setNoOfPages, setNoOfRecords])
+    }, [pageNumber, pageSize, searchKey, sortBy, setNoOfPages, setNoOfRecords])
+
+    const onSearch = (val) => {
+        setPageNumber(0)
+        setSearchKey(val)
+    }
+
+    const onSortChange = (val) => {
+        setPageNumber(0)
+        setSortBy(val)
+    }
 
     const disableOrEnable = async (userId) => {
         await AdminService.disableOrEnableUser(userId).then(
@@ -54,7 +65,7 @@ function AdminUsersManagement() {
 
     useEffect(() => {
         getUsers();
-    }, [searchKey, pageNumber, getUsers])
+    }, [searchKey, pageNumber, sortBy, getUsers])
 
     return (
         <Container activeNavId={5}>
@@ -65,7 +76,10 @@ function AdminUsersManagement() {
             {(!isFetching) &&
                 <>
                     <div className="utils page">
-                        <Search onChange={(val) => setSearchKey(val)} placeholder="Search users" />
+                        <div>
+                            <SortBy sortBy={sortBy} onSortChange={onSortChange} />
+                            <Search onChange={onSearch} placeholder="Search users" />
+                        </div>
                         <PageInfo info={getPageInfo()} onPrevClick={onPrevClick} onNextClick={onNextClick}
                             pageNumber={pageNumber} noOfPages={noOfPages}
                         />
@@ -86,6 +100,16 @@ function AdminUsersManagement() {
 export default AdminUsersManagement;
 
 
+function SortBy({ sortBy, onSortChange }) {
+    return (
+        <select value={sortBy} onChange={(e) => onSortChange(e.target.value)} style={{ margin: '0 15px 0 0' }}>
+            <option value="">User id</option>
+            <option value="spend">Top spend this month</option>
+            <option value="activity">Most transactions this month</option>
+        </select>
+    )
+}
+
 function UsersTableHeader() {
     return (
         <tr>
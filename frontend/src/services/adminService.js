@@ -16,7 +16,7 @@ const getAllTransactions = (pagenumber, pageSize, searchKey) => {
     )
 }
 
-const getAllUsers = (pagenumber, pageSize, searchKey) => {
+const getAllUsers = (pagenumber, pageSize, searchKey, sortBy, afterId) => {
     return axios.get(
         API_BASE_URL + "/user/getAll",
         {
@@ -24,7 +24,9 @@ const getAllUsers = (pagenumber, pageSize, searchKey) => {
             params: {
                 pageNumber: pagenumber,
                 pageSize: pageSize,
-                searchKey: searchKey
+                searchKey: searchKey,
+                sortBy: sortBy,
+                afterId: afterId
             }
         }
     )
@@ -91,45 +91,15 @@ const settingsResetPassword = async (email, oldPassword, newpassword) => {
     })
 }
 
-const getTotalIncomeOrExpense = async (userId, transactionTypeId, month, year) => {
-    return axios.get(
-        API_BASE_URL + '/report/getTotalIncomeOrExpense', 
-        {
-            headers: AuthService.authHeader(), 
-            params: {
-                userId: userId,
-                transactionTypeId: transactionTypeId,
-                month: month,
-                year: year
-            }
-        }
-    )
-}
-
-const getTotalNoOfTransactions = async (userId, month, year) => {
-    return axios.get(
-        API_BASE_URL + '/report/getTotalNoOfTransactions', 
-        {
-            headers: AuthService.authHeader(), 
-            params: {
-                userId: userId,
-                month: month,
-                year: year
-            }
-        }
-    )
-}
-
-const getTotalByCategory = async (email, categoryId, month, year) => {
+const getDashboard = async (email, month, year) => {
     return await axios.get(
-        API_BASE_URL + '/report/getTotalByCategory', 
+        API_BASE_URL + '/report/dashboard', 
         {
             headers: AuthService.authHeader(), 
             params: {
                 email: email,
-                categoryId: categoryId,
-                month: month,
-                year: year
+                year: year,
+                month: month
             }
         }
     )
@@ -311,9 +281,7 @@ const UserService = {
     update_transaction,
     delete_transaction,
     settingsResetPassword,
-    getTotalIncomeOrExpense,
-    getTotalNoOfTransactions,
-    getTotalByCategory,
+    getDashboard,
     getMonthlySummary,
     getBudget,
     createBudget,